@@ -0,0 +1,81 @@
+package io.quarkus.json.deployment;
+
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.json.JsonType;
+import io.quarkus.json.generator.Deserializer;
+import io.quarkus.json.generator.Generator;
+import io.quarkus.json.generator.GeneratorCache;
+import io.quarkus.json.generator.Serializer;
+import io.quarkus.json.runtime.JsonCompilerProducer;
+import io.quarkus.json.runtime.JsonCompilerRecorder;
+import io.quarkus.runtime.LaunchMode;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.DotName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+class JsonCompilerProcessor {
+
+    static final String FEATURE = "json-compiler";
+    static final DotName JSON_TYPE = DotName.createSimple(JsonType.class.getName());
+
+    @BuildStep
+    FeatureBuildItem feature() {
+        return new FeatureBuildItem(FEATURE);
+    }
+
+    @BuildStep
+    AdditionalBeanBuildItem beans() {
+        return AdditionalBeanBuildItem.unremovableOf(JsonCompilerProducer.class);
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void generate(CombinedIndexBuildItem index,
+                  LaunchModeBuildItem launchMode,
+                  OutputTargetBuildItem outputTarget,
+                  BuildProducer<GeneratedClassBuildItem> generatedClasses,
+                  BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
+                  JsonCompilerRecorder recorder) throws ClassNotFoundException {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        List<Class> roots = new ArrayList<>();
+        for (AnnotationInstance annotation : index.getIndex().getAnnotations(JSON_TYPE)) {
+            if (annotation.target().kind() != AnnotationTarget.Kind.CLASS) continue;
+            roots.add(Class.forName(annotation.target().asClass().name().toString(), false, cl));
+        }
+        if (roots.isEmpty()) return;
+
+        ClassOutput output = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+        Set<Class> generated;
+        if (launchMode.getLaunchMode() == LaunchMode.NORMAL || outputTarget.getOutputDirectory() == null) {
+            generated = Generator.generate(output, roots);
+        } else {
+            // dev mode and tests restart often, only regenerate types whose shape changed
+            GeneratorCache cache = new GeneratorCache(outputTarget.getOutputDirectory().resolve("json-compiler-cache"));
+            generated = cache.generate(output, roots);
+        }
+        List<String> types = new ArrayList<>();
+        for (Class type : generated) {
+            types.add(type.getName());
+            // instantiated by name when the registry is filled at startup
+            reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false,
+                    Deserializer.fqn(type, type), Serializer.fqn(type, type)));
+        }
+        recorder.register(types);
+    }
+}
@@ -0,0 +1,52 @@
+package io.quarkus.json.test;
+
+import io.quarkus.json.JsonCompiler;
+import io.quarkus.json.deserializer.ParserContext;
+import io.quarkus.json.serializer.ByteArrayByteWriter;
+import io.quarkus.json.serializer.JsonByteWriter;
+import io.quarkus.test.QuarkusUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import javax.inject.Inject;
+
+public class JsonCompilerProcessorTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(Owner.class, Pet.class));
+
+    @Inject
+    JsonCompiler compiler;
+
+    static String json = "{\n" +
+            "  \"name\": \"Bill\",\n" +
+            "  \"pets\": [\n" +
+            "    { \"name\": \"itchy\", \"age\": 3 },\n" +
+            "    { \"name\": \"scratchy\", \"age\": 4 }\n" +
+            "  ]\n" +
+            "}";
+
+    @Test
+    public void testGeneratedAtBuildTime() {
+        ParserContext ctx = compiler.parser(Owner.class).parser();
+        Assertions.assertTrue(ctx.parse(json));
+        Owner owner = ctx.target();
+        Assertions.assertEquals("Bill", owner.getName());
+        Assertions.assertEquals("scratchy", owner.getPets().get(1).getName());
+        Assertions.assertEquals(4, owner.getPets().get(1).getAge());
+
+        // nested type is generated without being annotated
+        Assertions.assertNotNull(compiler.parser(Pet.class));
+
+        ByteArrayByteWriter writer = new ByteArrayByteWriter();
+        compiler.writer(Owner.class).write(new JsonByteWriter(writer), owner);
+        ctx = compiler.parser(Owner.class).parser();
+        Assertions.assertTrue(ctx.parse(writer.getBytes()));
+        owner = ctx.target();
+        Assertions.assertEquals(3, owner.getPets().get(0).getAge());
+    }
+}
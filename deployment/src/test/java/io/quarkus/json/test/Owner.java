@@ -0,0 +1,27 @@
+package io.quarkus.json.test;
+
+import io.quarkus.json.JsonType;
+
+import java.util.List;
+
+@JsonType
+public class Owner {
+    private String name;
+    private List<Pet> pets;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<Pet> getPets() {
+        return pets;
+    }
+
+    public void setPets(List<Pet> pets) {
+        this.pets = pets;
+    }
+}
@@ -0,0 +1,185 @@
+package io.quarkus.json.maven;
+
+import io.quarkus.json.generator.Deserializer;
+import io.quarkus.json.generator.FileClassOutput;
+import io.quarkus.json.generator.Generator;
+import io.quarkus.json.generator.GeneratorCache;
+import io.quarkus.json.generator.Serializer;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates parsers and serializers for the configured types into the build output directory
+ * so nothing has to be generated at runtime.
+ */
+@Mojo(name = "generate", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true,
+        requiresDependencyResolution = ResolutionScope.COMPILE)
+public class GenerateMojo extends AbstractMojo {
+
+    /**
+     * Fully qualified names of the root types.  Every user type reachable from them is generated too.
+     */
+    @Parameter(required = true)
+    List<String> types;
+
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    File outputDirectory;
+
+    /**
+     * Where the shape hash and the dependencies of each generated type are recorded so unchanged types can be skipped.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/json-compiler", required = true)
+    File stateDirectory;
+
+    @Parameter(defaultValue = "${project.compileClasspathElements}", readonly = true, required = true)
+    List<String> classpathElements;
+
+    @Parameter(property = "json-compiler.threads", defaultValue = "0")
+    int threads;
+
+    @Parameter(property = "json-compiler.skip", defaultValue = "false")
+    boolean skip;
+
+    final AtomicInteger generated = new AtomicInteger();
+    final AtomicInteger upToDate = new AtomicInteger();
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            getLog().info("Skipping json-compiler generation");
+            return;
+        }
+        FileClassOutput output = new FileClassOutput(outputDirectory.toPath());
+        ForkJoinPool pool = threads > 0 ? new ForkJoinPool(threads) : new ForkJoinPool();
+        try (URLClassLoader loader = new URLClassLoader(classpath(), getClass().getClassLoader())) {
+            List<GenerateType> roots = new ArrayList<>();
+            Set<Class> visited = ConcurrentHashMap.newKeySet();
+            for (String name : types) {
+                roots.add(new GenerateType(loader.loadClass(name), output, visited));
+            }
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(roots);
+                }
+            });
+        } catch (ClassNotFoundException | IOException | RuntimeException e) {
+            throw new MojoExecutionException("Failed to generate json parsers", e);
+        } finally {
+            pool.shutdown();
+        }
+        getLog().info("Generated json parsers and serializers for " + generated.get() + " types, "
+                + upToDate.get() + " up to date");
+    }
+
+    URL[] classpath() throws MalformedURLException {
+        Set<String> elements = new LinkedHashSet<>();
+        elements.add(outputDirectory.getAbsolutePath());
+        if (classpathElements != null) elements.addAll(classpathElements);
+        URL[] urls = new URL[elements.size()];
+        int i = 0;
+        for (String element : elements) {
+            urls[i++] = new File(element).toURI().toURL();
+        }
+        return urls;
+    }
+
+    class GenerateType extends RecursiveAction {
+        final Class type;
+        final FileClassOutput output;
+        final Set<Class> visited;
+
+        GenerateType(Class type, FileClassOutput output, Set<Class> visited) {
+            this.type = type;
+            this.output = output;
+            this.visited = visited;
+        }
+
+        @Override
+        protected void compute() {
+            if (!Generator.isGeneratable(type) || !visited.add(type)) return;
+            try {
+                List<String> dependencies = upToDateDependencies(type, output);
+                List<GenerateType> next = new ArrayList<>();
+                if (dependencies != null) {
+                    upToDate.incrementAndGet();
+                    for (String name : dependencies) {
+                        next.add(new GenerateType(Class.forName(name, false, type.getClassLoader()), output, visited));
+                    }
+                } else {
+                    List<Class> required = new ArrayList<>(Generator.generate(output, type));
+                    List<String> lines = new ArrayList<>();
+                    lines.add(shape(type, required));
+                    for (Class dep : required) {
+                        lines.add(dep.getName());
+                        next.add(new GenerateType(dep, output, visited));
+                    }
+                    Path state = stateFile(type);
+                    Files.createDirectories(state.getParent());
+                    Files.write(state, lines);
+                    generated.incrementAndGet();
+                }
+                invokeAll(next);
+            } catch (IOException | ClassNotFoundException e) {
+                throw new RuntimeException("Failed to generate " + type.getName(), e);
+            }
+        }
+    }
+
+    Path stateFile(Class type) {
+        return stateDirectory.toPath().resolve(type.getName() + ".deps");
+    }
+
+    /**
+     * Returns the recorded dependencies of the type if its generated classes exist and neither its shape nor the shape
+     * of a dependency changed, null if it has to be generated again.
+     */
+    List<String> upToDateDependencies(Class type, FileClassOutput output) throws IOException {
+        Path state = stateFile(type);
+        Path parser = output.classFile(Deserializer.fqn(type, type));
+        Path serializer = output.classFile(Serializer.fqn(type, type));
+        if (!Files.exists(state) || !Files.exists(parser) || !Files.exists(serializer)) return null;
+        List<String> lines = Files.readAllLines(state);
+        if (lines.isEmpty()) return null;
+        List<String> dependencies = new ArrayList<>(lines.subList(1, lines.size()));
+        dependencies.removeAll(Collections.singleton(""));
+        List<Class> classes = new ArrayList<>();
+        try {
+            for (String name : dependencies) classes.add(Class.forName(name, false, type.getClassLoader()));
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        return lines.get(0).equals(shape(type, classes)) ? dependencies : null;
+    }
+
+    /**
+     * Shape hashes of the type and its dependencies, see {@link GeneratorCache#key(Class)}.  They cover inherited
+     * getters and setters and the generic signatures of every property, which class file times do not.
+     */
+    static String shape(Class type, List<Class> dependencies) {
+        StringBuilder shape = new StringBuilder(GeneratorCache.key(type));
+        for (Class dep : dependencies) shape.append(',').append(GeneratorCache.key(dep));
+        return shape.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkus.json.maven;
+
+import io.quarkus.json.deserializer.JsonParser;
+import io.quarkus.json.deserializer.ParserContext;
+import io.quarkus.json.test.Owner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class GenerateMojoTest {
+
+    @TempDir
+    Path target;
+
+    GenerateMojo mojo() {
+        GenerateMojo mojo = new GenerateMojo();
+        mojo.types = Collections.singletonList(Owner.class.getName());
+        mojo.outputDirectory = target.resolve("classes").toFile();
+        mojo.stateDirectory = target.resolve("json-compiler").toFile();
+        mojo.classpathElements = Collections.emptyList();
+        return mojo;
+    }
+
+    @Test
+    public void testGenerate() throws Exception {
+        GenerateMojo mojo = mojo();
+        mojo.execute();
+        Assertions.assertEquals(2, mojo.generated.get());
+        Path classes = target.resolve("classes/io/quarkus/json/test");
+        Assertions.assertTrue(Files.exists(classes.resolve("Owner__Parser.class")));
+        Assertions.assertTrue(Files.exists(classes.resolve("Pet__Serializer.class")));
+
+        // nothing changed, nested type is still found through the recorded dependencies
+        mojo = mojo();
+        mojo.execute();
+        Assertions.assertEquals(0, mojo.generated.get());
+        Assertions.assertEquals(2, mojo.upToDate.get());
+
+        // a recorded shape that no longer matches, e.g. after Pet changed, generates Owner again
+        Path state = mojo.stateFile(Owner.class);
+        List<String> lines = new ArrayList<>(Files.readAllLines(state));
+        lines.set(0, "stale");
+        Files.write(state, lines);
+        mojo = mojo();
+        mojo.execute();
+        Assertions.assertEquals(1, mojo.generated.get());
+        Assertions.assertEquals(1, mojo.upToDate.get());
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{target.resolve("classes").toUri().toURL()}, getClass().getClassLoader())) {
+            JsonParser parser = (JsonParser) loader.loadClass("io.quarkus.json.test.Owner__Parser").getDeclaredConstructor().newInstance();
+            ParserContext ctx = parser.parser();
+            Assertions.assertTrue(ctx.parse("{\"name\":\"Bill\",\"pets\":[{\"name\":\"itchy\",\"age\":3}]}"));
+            Owner owner = ctx.target();
+            Assertions.assertEquals(3, owner.getPets().get(0).getAge());
+        }
+    }
+}
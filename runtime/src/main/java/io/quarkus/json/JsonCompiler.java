@@ -0,0 +1,211 @@
+package io.quarkus.json;
+
+import io.quarkus.json.deserializer.JsonParser;
+import io.quarkus.json.generator.Deserializer;
+import io.quarkus.json.generator.Generator;
+import io.quarkus.json.generator.MemoryClassOutput;
+import io.quarkus.json.generator.Serializer;
+import io.quarkus.json.serializer.ByteArrayByteWriter;
+import io.quarkus.json.serializer.ByteArrayByteWriterPool;
+import io.quarkus.json.serializer.ChannelByteWriter;
+import io.quarkus.json.serializer.FixedByteArrayByteWriter;
+import io.quarkus.json.serializer.JsonByteWriter;
+import io.quarkus.json.serializer.JsonPublisher;
+import io.quarkus.json.serializer.ObjectWriter;
+import io.quarkus.json.serializer.ObjectWriters;
+import io.quarkus.json.serializer.OutputStreamByteWriter;
+import io.quarkus.json.serializer.SizePredictor;
+
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * Looks up the generated parser and serializer of a type.  Types that were not generated at build time
+ * are generated on first use and defined next to the type through {@link MethodHandles.Lookup#defineClass(byte[])}.
+ */
+public class JsonCompiler {
+    public static final JsonCompiler COMPILER = new JsonCompiler();
+
+    static class Generated {
+        final JsonParser parser;
+        final ObjectWriter writer;
+
+        Generated(JsonParser parser, ObjectWriter writer) {
+            this.parser = parser;
+            this.writer = writer;
+        }
+    }
+
+    final Map<Class, Generated> registered = new ConcurrentHashMap<>();
+    final ClassValue<Generated> generated = new ClassValue<Generated>() {
+        @Override
+        protected Generated computeValue(Class<?> type) {
+            Generated value = registered.get(type);
+            return value != null ? value : load(type);
+        }
+    };
+    // runtime generation is rare, one lock keeps concurrent first requests from defining a class twice
+    final Object lock = new Object();
+    // untyped values written through this compiler find their serializer here
+    final ObjectWriters objectWriters = new ObjectWriters(this::writer);
+
+    public void register(Class type, JsonParser parser, ObjectWriter writer) {
+        registered.put(type, new Generated(parser, writer));
+        generated.remove(type);
+        objectWriters.reset(type);
+    }
+
+    public JsonParser parser(Class type) {
+        return generated.get(type).parser;
+    }
+
+    public JsonParser parser(Type type) {
+        return parser(plainClass(type));
+    }
+
+    public ObjectWriter writer(Class type) {
+        return generated.get(type).writer;
+    }
+
+    public ObjectWriters objectWriters() {
+        return objectWriters;
+    }
+
+    public ObjectWriter writer(Type type) {
+        return writer(plainClass(type));
+    }
+
+    /**
+     * Generated classes are named after the class alone, the parser of List&lt;Foo&gt; or Wrapper&lt;Bar&gt; would
+     * silently be the one of the raw type without its type arguments.
+     */
+    static Class plainClass(Type type) {
+        if (type instanceof Class) return (Class) type;
+        throw new RuntimeException("Json parsers and serializers are generated per class, not for: " + type.getTypeName());
+    }
+
+    /**
+     * Serializes the object with its generated serializer.  The buffer comes from {@link ByteArrayByteWriterPool#POOL},
+     * presized from the sizes earlier objects of the same type produced.
+     */
+    public byte[] toBytes(Object target) {
+        ObjectWriter writer = writer(target.getClass());
+        SizePredictor predictor = SizePredictor.of(writer);
+        ByteArrayByteWriter bytes = ByteArrayByteWriterPool.POOL.acquire(predictor.predict());
+        try {
+            writer.write(new JsonByteWriter(bytes, objectWriters), target);
+            predictor.record(bytes.size());
+            return bytes.getBytes();
+        } finally {
+            ByteArrayByteWriterPool.POOL.release(bytes);
+        }
+    }
+
+    /**
+     * Exact number of bytes {@link #toBytes(Object)} returns, computed without serializing.
+     */
+    public int size(Object target) {
+        return writer(target.getClass()).size(target, objectWriters);
+    }
+
+    /**
+     * Serializes into an array allocated once at the exact size, for when the size has to be known up front anyway.
+     */
+    public byte[] toExactBytes(Object target) {
+        ObjectWriter writer = writer(target.getClass());
+        byte[] exact = new byte[writer.size(target, objectWriters)];
+        FixedByteArrayByteWriter bytes = new FixedByteArrayByteWriter(exact);
+        writer.write(new JsonByteWriter(bytes, objectWriters), target);
+        if (bytes.size() != exact.length) {
+            throw new RuntimeException("Computed json size " + exact.length + " but wrote " + bytes.size() + " bytes for: " + target.getClass().getName());
+        }
+        return exact;
+    }
+
+    /**
+     * Streams the object to out in chunks, memory use does not depend on the size of the json.
+     */
+    public void write(Object target, OutputStream out) {
+        OutputStreamByteWriter bytes = new OutputStreamByteWriter(out);
+        writer(target.getClass()).write(new JsonByteWriter(bytes, objectWriters), target);
+        bytes.flush();
+    }
+
+    public void write(Object target, WritableByteChannel channel) {
+        ChannelByteWriter bytes = new ChannelByteWriter(channel);
+        writer(target.getClass()).write(new JsonByteWriter(bytes, objectWriters), target);
+        bytes.flush();
+    }
+
+    /**
+     * Publishes the json of the object in chunks as the subscriber requests them.
+     *
+     * @param executor runs the serialization of each subscription, whose thread blocks while there is no demand
+     */
+    public Flow.Publisher<ByteBuffer> publisher(Object target, Executor executor) {
+        return new JsonPublisher(writer(target.getClass()), target, objectWriters, executor);
+    }
+
+    Generated load(Class type) {
+        if (!Generator.isGeneratable(type)) throw new RuntimeException("No json parser generated for: " + type.getName());
+        synchronized (lock) {
+            // define the whole closure before anything is initialized, static initializers reference nested parsers
+            Set<Class> defined = new HashSet<>();
+            Deque<Class> queue = new ArrayDeque<>();
+            queue.add(type);
+            while (!queue.isEmpty()) {
+                Class next = queue.pop();
+                if (!Generator.isGeneratable(next) || !defined.add(next) || isLoadable(next)) continue;
+                MemoryClassOutput output = new MemoryClassOutput();
+                queue.addAll(Generator.generate(output, next));
+                define(next, output);
+            }
+            try {
+                Class parser = Class.forName(Deserializer.fqn(type, type), true, type.getClassLoader());
+                Class writer = Class.forName(Serializer.fqn(type, type), true, type.getClassLoader());
+                return new Generated((JsonParser) parser.getField("PARSER").get(null),
+                        (ObjectWriter) writer.getField("SERIALIZER").get(null));
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException("Failed to load generated json classes for: " + type.getName(), e);
+            }
+        }
+    }
+
+    static boolean isLoadable(Class type) {
+        return isLoadable(Deserializer.fqn(type, type), type.getClassLoader())
+                && isLoadable(Serializer.fqn(type, type), type.getClassLoader());
+    }
+
+    static boolean isLoadable(String name, ClassLoader loader) {
+        try {
+            Class.forName(name, false, loader);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    static void define(Class type, MemoryClassOutput output) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            for (Map.Entry<String, byte[]> clz : output.getBytecode().entrySet()) {
+                // the parser may exist without the serializer, only define what is missing
+                if (isLoadable(clz.getKey().replace('/', '.'), type.getClassLoader())) continue;
+                lookup.defineClass(clz.getValue());
+            }
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Failed to define json classes for: " + type.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package io.quarkus.json;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class whose json parser and serializer are generated at build time.  Classes reachable
+ * from its properties are generated too and don't need the annotation.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JsonType {
+}
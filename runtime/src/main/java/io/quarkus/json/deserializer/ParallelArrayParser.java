@@ -0,0 +1,127 @@
+package io.quarkus.json.deserializer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static io.quarkus.json.IntChar.*;
+
+/**
+ * Parses a large, fully buffered root json array in parallel.  A structural pre-scan finds the boundaries
+ * of the top level elements, then the element parser runs on ranges of elements on a fork/join pool.
+ * Results are placed directly at their index so the returned list is in document order.
+ */
+public class ParallelArrayParser {
+    // don't fork below this many bytes of elements
+    public static final int MIN_SPLIT_SIZE = 64 * 1024;
+
+    final JsonParser elementParser;
+    final ForkJoinPool pool;
+
+    public ParallelArrayParser(JsonParser elementParser) {
+        this(elementParser, ForkJoinPool.commonPool());
+    }
+
+    public ParallelArrayParser(JsonParser elementParser, ForkJoinPool pool) {
+        this.elementParser = elementParser;
+        this.pool = pool;
+    }
+
+    public <T> List<T> parse(byte[] buffer) {
+        return parse(buffer, 0, buffer.length);
+    }
+
+    public <T> List<T> parse(byte[] buffer, int offset, int length) {
+        int[] bounds = scan(buffer, offset, length);
+        int count = bounds.length / 2;
+        Object[] results = new Object[count];
+        if (count > 0) pool.invoke(new ParseElements(buffer, bounds, results, 0, count));
+        return (List<T>)Arrays.asList(results);
+    }
+
+    /**
+     * Returns start and end index pairs of the top level array elements.  The end index points to the ','
+     * or ']' following the element so that numbers are terminated when parsed on their own.
+     */
+    public static int[] scan(byte[] buffer, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        while (i < end && isWhitespace(buffer[i] & 0xFF)) i++;
+        if (i >= end || (buffer[i] & 0xFF) != INT_LBRACKET) throw new RuntimeException("Expecting start of array");
+        i++;
+
+        int[] bounds = new int[64];
+        int count = 0;
+        int depth = 0;
+        int elementStart = -1;
+        for (; i < end; i++) {
+            int c = buffer[i] & 0xFF;
+            if (c == INT_QUOTE) {
+                if (elementStart < 0) elementStart = i;
+                for (i++; i < end; i++) {
+                    c = buffer[i] & 0xFF;
+                    if (c == INT_BACKSLASH) i++;
+                    else if (c == INT_QUOTE) break;
+                }
+                continue;
+            }
+            if (depth == 0) {
+                if (c == INT_COMMA || c == INT_RBRACKET) {
+                    if (elementStart < 0) {
+                        if (c == INT_RBRACKET && count == 0) return new int[0];
+                        throw new RuntimeException("Expecting array element");
+                    }
+                    if (count == bounds.length) bounds = Arrays.copyOf(bounds, count * 2);
+                    bounds[count++] = elementStart;
+                    bounds[count++] = i;
+                    elementStart = -1;
+                    if (c == INT_RBRACKET) return Arrays.copyOf(bounds, count);
+                    continue;
+                }
+                if (elementStart < 0 && !isWhitespace(c)) elementStart = i;
+            }
+            if (c == INT_LCURLY || c == INT_LBRACKET) {
+                depth++;
+            } else if (c == INT_RCURLY || c == INT_RBRACKET) {
+                depth--;
+            }
+        }
+        throw new RuntimeException("Expecting end of array");
+    }
+
+    class ParseElements extends RecursiveAction {
+        final byte[] buffer;
+        final int[] bounds;
+        final Object[] results;
+        final int from;
+        final int to;
+
+        ParseElements(byte[] buffer, int[] bounds, Object[] results, int from, int to) {
+            this.buffer = buffer;
+            this.bounds = bounds;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int size = bounds[to * 2 - 1] - bounds[from * 2];
+            if (to - from > 1 && size > MIN_SPLIT_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ParseElements(buffer, bounds, results, from, middle),
+                        new ParseElements(buffer, bounds, results, middle, to));
+                return;
+            }
+            ParserContext ctx = elementParser.parser();
+            for (int i = from; i < to; i++) {
+                int start = bounds[i * 2];
+                int end = bounds[i * 2 + 1];
+                ctx.reset();
+                if (!ctx.parse(buffer, start, end - start + 1)) throw new RuntimeException("Incomplete array element at " + start);
+                results[i] = ctx.popTarget();
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package io.quarkus.json.deserializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+import static io.quarkus.json.IntChar.INT_LF;
+
+/**
+ * Parses newline delimited json in parallel.  The input is split at newline boundaries into ranges
+ * and every range is parsed on the fork/join pool with the worker thread's own {@link ParserContext}.  A range
+ * that ends inside a document fails the parse.
+ *
+ * Unordered parsing calls the sink concurrently from the pool threads as documents complete.
+ * Ordered parsing calls the sink from the calling thread in input order.  Only about one range per thread
+ * is parsed ahead of the range handed to the sink, so memory is bounded by the range size, not the input size.
+ */
+public class ParallelNdjsonParser {
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    public static final int MIN_RANGE_SIZE = 64 * 1024;
+    // bounds the parsed objects an ordered range holds until its turn
+    public static final int MAX_RANGE_SIZE = 4 * 1024 * 1024;
+    // more ranges than threads so that a slow range does not leave the other threads idle
+    static final int RANGES_PER_THREAD = 4;
+
+    final ForkJoinPool pool;
+    final ThreadLocal<ParserContext> contexts;
+    int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    public ParallelNdjsonParser(JsonParser parser) {
+        this(parser, ForkJoinPool.commonPool());
+    }
+
+    public ParallelNdjsonParser(JsonParser parser, ForkJoinPool pool) {
+        this.pool = pool;
+        this.contexts = ThreadLocal.withInitial(parser::parser);
+    }
+
+    public ParallelNdjsonParser chunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public void parse(byte[] buffer, Consumer<Object> sink) {
+        run(new ArraySource(buffer), sink, false);
+    }
+
+    public void parseOrdered(byte[] buffer, Consumer<Object> sink) {
+        run(new ArraySource(buffer), sink, true);
+    }
+
+    public void parse(ByteBuffer region, Consumer<Object> sink) {
+        run(new ByteBufferSource(region), sink, false);
+    }
+
+    public void parseOrdered(ByteBuffer region, Consumer<Object> sink) {
+        run(new ByteBufferSource(region), sink, true);
+    }
+
+    public void parse(Path file, Consumer<Object> sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            run(new FileSource(channel), sink, false);
+        }
+    }
+
+    public void parseOrdered(Path file, Consumer<Object> sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            run(new FileSource(channel), sink, true);
+        }
+    }
+
+    void run(Source source, Consumer<Object> sink, boolean ordered) {
+        long[] splits = split(source);
+        int ranges = splits.length - 1;
+        if (!ordered) {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(ranges);
+            for (int i = 0; i < ranges; i++) {
+                long start = splits[i];
+                long end = splits[i + 1];
+                tasks.add(pool.submit(() -> parseRange(source, start, end, sink)));
+            }
+            for (ForkJoinTask<?> task : tasks) task.join();
+            return;
+        }
+        // one range more than threads, so all of them stay busy while the oldest range is drained
+        int window = pool.getParallelism() + 1;
+        ArrayDeque<ForkJoinTask<List<Object>>> pending = new ArrayDeque<>(window);
+        int next = 0;
+        while (next < ranges || !pending.isEmpty()) {
+            while (next < ranges && pending.size() < window) {
+                long start = splits[next];
+                long end = splits[next + 1];
+                pending.add(pool.submit(ForkJoinTask.adapt(() -> {
+                    List<Object> results = new ArrayList<>();
+                    parseRange(source, start, end, results::add);
+                    return results;
+                })));
+                next++;
+            }
+            pending.poll().join().forEach(sink);
+        }
+    }
+
+    long[] split(Source source) {
+        long size = source.size();
+        long ranges = Math.max(Math.max(1, Math.min(pool.getParallelism() * RANGES_PER_THREAD, size / MIN_RANGE_SIZE)),
+                (size + MAX_RANGE_SIZE - 1) / MAX_RANGE_SIZE);
+        long[] splits = new long[(int)ranges + 1];
+        int count = 1;
+        for (int i = 1; i < ranges; i++) {
+            long split = source.nextLine(size * i / ranges);
+            if (split > splits[count - 1] && split < size) splits[count++] = split;
+        }
+        splits[count++] = size;
+        if (count == splits.length) return splits;
+        long[] trimmed = new long[count];
+        System.arraycopy(splits, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    void parseRange(Source source, long start, long end, Consumer<Object> sink) {
+        ParserContext ctx = contexts.get();
+        try {
+            source.parse(ctx, start, end, sink);
+            if (ctx.isDocumentPending()) {
+                throw new RuntimeException("Incomplete json document at the end of the input range " + start + "-" + end);
+            }
+        } finally {
+            // the pooled context must not keep the input or a partial document reachable
+            ctx.reset();
+        }
+    }
+
+    abstract class Source {
+        abstract long size();
+
+        abstract int read(long position, byte[] dst, int length);
+
+        /**
+         * Position right after the first newline at or after position, size() if there is none
+         */
+        long nextLine(long position) {
+            byte[] window = new byte[4096];
+            long size = size();
+            while (position < size) {
+                int read = read(position, window, (int)Math.min(window.length, size - position));
+                for (int i = 0; i < read; i++) {
+                    if (window[i] == INT_LF) return position + i + 1;
+                }
+                position += read;
+            }
+            return size;
+        }
+
+        void parse(ParserContext ctx, long start, long end, Consumer<Object> sink) {
+            byte[] chunk = new byte[chunkSize];
+            long position = start;
+            while (position < end) {
+                int read = read(position, chunk, (int)Math.min(chunk.length, end - position));
+                ctx.parseDocuments(chunk, 0, read, sink);
+                position += read;
+            }
+        }
+    }
+
+    class ArraySource extends Source {
+        final byte[] buffer;
+
+        ArraySource(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        long size() {
+            return buffer.length;
+        }
+
+        @Override
+        int read(long position, byte[] dst, int length) {
+            System.arraycopy(buffer, (int)position, dst, 0, length);
+            return length;
+        }
+
+        @Override
+        void parse(ParserContext ctx, long start, long end, Consumer<Object> sink) {
+            // already in memory, no need to copy into chunks
+            ctx.parseDocuments(buffer, (int)start, (int)(end - start), sink);
+        }
+    }
+
+    class ByteBufferSource extends Source {
+        final ByteBuffer region;
+
+        ByteBufferSource(ByteBuffer region) {
+            this.region = region;
+        }
+
+        @Override
+        long size() {
+            return region.remaining();
+        }
+
+        @Override
+        int read(long position, byte[] dst, int length) {
+            ByteBuffer view = region.duplicate();
+            view.position(region.position() + (int)position);
+            view.get(dst, 0, length);
+            return length;
+        }
+    }
+
+    class FileSource extends Source {
+        final FileChannel channel;
+        final long size;
+
+        FileSource(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        @Override
+        long size() {
+            return size;
+        }
+
+        @Override
+        int read(long position, byte[] dst, int length) {
+            ByteBuffer buffer = ByteBuffer.wrap(dst, 0, length);
+            try {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) break;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return buffer.position();
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package io.quarkus.json.deserializer;
 
-import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayDeque;
 import java.util.LinkedList;
+import java.util.function.Consumer;
 
 import static io.quarkus.json.IntChar.*;
 
@@ -12,6 +12,8 @@ public class ParserContext {
     protected ArrayDeque<Object> target = new ArrayDeque<>();
     protected BufferBuilder tokenBuffer;
     protected byte[] buffer;
+    protected int offset;
+    protected int limit;
     protected int ptr;
     protected ParserState initialState;
 
@@ -44,27 +46,21 @@ public class ParserContext {
     }
 
     public boolean isBufferEmpty() {
-        return ptr >= buffer.length;
+        return ptr >= limit;
     }
 
     public int consume() {
-        if (ptr >= buffer.length) {
+        if (ptr >= limit) {
             if (buildingToken) {
                 if (tokenBuffer == null ) {
                     if (tokenStart >= 0) {
                         createTokenBuffer();
                         tokenBuffer.write(buffer, tokenStart, ptr - tokenStart);
                     } else {
-                        tokenStart = 0;
+                        tokenStart = offset;
                     }
                 } else {
-                    try {
-                        tokenBuffer.write(buffer);
-                    } catch (IOException e) {
-                        // should be unreachable
-                        throw new RuntimeException(e);
-                    }
-
+                    tokenBuffer.write(buffer, offset, limit - offset);
                 }
             }
             return 0;
@@ -87,16 +83,16 @@ public class ParserContext {
     public void startTokenNextConsumed() {
         buildingToken = true;
         // if current pointer points outside of buffer, set it to start of next buffer.
-        if (ptr >= buffer.length) tokenStart = -1;
+        if (ptr >= limit) tokenStart = -1;
         else tokenStart = ptr;
     }
 
     public void endToken() {
         buildingToken = false;
         if (tokenBuffer != null) {
-            if (ptr - 1 > 0) tokenBuffer.write(buffer, 0, ptr - 1);
+            if (ptr - 1 > offset) tokenBuffer.write(buffer, offset, ptr - 1 - offset);
         } else {
-            if (tokenStart < 0) tokenStart = 0;  // when asked to start token at next buffer tokenStart will be -1
+            if (tokenStart < 0) tokenStart = offset;  // when asked to start token at next buffer tokenStart will be -1
             tokenEnd = ptr - 1;
         }
     }
@@ -235,21 +231,78 @@ public class ParserContext {
     }
 
     public boolean parse(byte[] buffer) {
-        if (buffer == null || buffer.length == 0) return false;
+        if (buffer == null) return false;
+        return parse(buffer, 0, buffer.length);
+    }
+
+    /**
+     * Parses length bytes of buffer starting at offset.  Returns true once the root value is complete.
+     * Parsing stops right after the root value, {@link #consumed()} tells how many bytes of this buffer were used
+     * so that any following document can be parsed from the same buffer after a {@link #reset()}.
+     */
+    public boolean parse(byte[] buffer, int offset, int length) {
+        if (buffer == null || length <= 0) return false;
 
         this.buffer = buffer;
-        this.ptr = 0;
+        this.offset = offset;
+        this.limit = offset + length;
+        this.ptr = offset;
+        // token continued from the previous buffer starts at the beginning of this one
+        if (buildingToken && tokenBuffer == null) tokenStart = offset;
 
         if (state == null || state.isEmpty()) {
             return initialState.parse(this);
         }
 
-        while (ptr < buffer.length || (state != null && !state.isEmpty())) {
+        while (!state.isEmpty()) {
             if (!state.peek().parse(this)) {
                 return false;
             }
         }
-        return state != null && state.isEmpty();
+        return true;
+    }
+
+    /**
+     * Number of bytes of the last buffer passed to parse that were consumed.
+     */
+    public int consumed() {
+        return ptr - offset;
+    }
+
+    /**
+     * Clears all parse state and targets so that the context can be reused for the next document.
+     * The last buffer is dropped too, a pooled context must not keep its input reachable.
+     */
+    public void reset() {
+        if (state != null) state.clear();
+        target.clear();
+        clearToken();
+        buffer = null;
+    }
+
+    /**
+     * True if a document was started but not completed.  Trailing whitespace does not start one.
+     */
+    public boolean isDocumentPending() {
+        return !target.isEmpty() || buildingToken;
+    }
+
+    /**
+     * Parses a stream of concatenated or newline delimited documents, handing each completed root target
+     * to the sink.  A document that is incomplete at the end of the buffer is continued by the next call.
+     * Returns the number of documents completed.
+     */
+    public int parseDocuments(byte[] buffer, int offset, int length, Consumer<Object> sink) {
+        int count = 0;
+        int end = offset + length;
+        while (offset < end) {
+            if (!parse(buffer, offset, end - offset)) break;
+            offset += consumed();
+            sink.accept(popTarget());
+            reset();
+            count++;
+        }
+        return count;
     }
 
     public boolean parse(String fullJson) {
@@ -0,0 +1,86 @@
+package io.quarkus.json.deserializer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Feeds a stream of buffers into a {@link ParserContext} as they arrive.  Only one buffer is requested at a time
+ * and the next one is requested after the parser has consumed the current one.  The result completes
+ * with the root target once the document is complete.
+ */
+public class ParserSubscriber<T> implements Flow.Subscriber<ByteBuffer> {
+    final ParserContext ctx;
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    Flow.Subscription subscription;
+    // used to copy direct or read only buffers
+    byte[] scratch;
+
+    public ParserSubscriber(JsonParser parser) {
+        this(parser.parser());
+    }
+
+    public ParserSubscriber(ParserContext ctx) {
+        this.ctx = ctx;
+    }
+
+    public static <T> CompletionStage<T> parse(JsonParser parser, Flow.Publisher<ByteBuffer> publisher) {
+        ParserSubscriber<T> subscriber = new ParserSubscriber<>(parser);
+        publisher.subscribe(subscriber);
+        return subscriber.result();
+    }
+
+    public CompletionStage<T> result() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(ByteBuffer item) {
+        if (result.isDone()) return;
+        boolean done;
+        try {
+            done = parse(item);
+        } catch (RuntimeException e) {
+            subscription.cancel();
+            result.completeExceptionally(e);
+            return;
+        }
+        if (done) {
+            subscription.cancel();
+            result.complete(ctx.target());
+        } else {
+            subscription.request(1);
+        }
+    }
+
+    boolean parse(ByteBuffer item) {
+        int length = item.remaining();
+        if (item.hasArray()) {
+            return ctx.parse(item.array(), item.arrayOffset() + item.position(), length);
+        }
+        if (scratch == null || scratch.length < length) scratch = new byte[length];
+        item.duplicate().get(scratch, 0, length);
+        return ctx.parse(scratch, 0, length);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (!result.isDone()) result.completeExceptionally(new RuntimeException("Unexpected end of json input"));
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.json.deserializer;
+
+import java.util.function.Consumer;
+
+/**
+ * Parses a root json array and hands each element to a consumer as soon as it is complete
+ * instead of collecting the elements.  Elements are not referenced after the consumer returns,
+ * so memory stays constant no matter how long the array is.  Works with chunked input like any other parser.
+ */
+public class StreamingListParser extends CollectionParser {
+    public StreamingListParser(ContextValue valueFunction, ParserState valueState) {
+        super(valueFunction, valueState);
+    }
+
+    public ParserContext parser(Consumer<Object> consumer) {
+        ParserContext ctx = parser();
+        ctx.pushTarget(consumer);
+        return ctx;
+    }
+
+    @Override
+    public void beginList(ParserContext ctx) {
+        // consumer was pushed as target when the context was created
+    }
+
+    @Override
+    public void addListValue(ParserContext ctx) {
+        Object value = valueFunction.value(ctx);
+        Consumer consumer = ctx.target();
+        consumer.accept(value);
+    }
+}
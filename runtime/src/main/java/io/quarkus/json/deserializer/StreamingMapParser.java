@@ -0,0 +1,32 @@
+package io.quarkus.json.deserializer;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Parses a root json object and hands each key/value entry to a consumer as soon as it is complete
+ * instead of collecting the entries into a map.
+ */
+public class StreamingMapParser extends MapParser {
+    public StreamingMapParser(ContextValue keyFunction, ContextValue valueFunction, ParserState valueState, ParserState continueValueState) {
+        super(keyFunction, valueFunction, valueState, continueValueState);
+    }
+
+    public ParserContext parser(BiConsumer<Object, Object> consumer) {
+        ParserContext ctx = parser();
+        ctx.pushTarget(consumer);
+        return ctx;
+    }
+
+    @Override
+    public void beginObject(ParserContext ctx) {
+        // consumer was pushed as target when the context was created
+    }
+
+    @Override
+    public boolean fillKey(ParserContext ctx, Object key) {
+        Object value = valueFunction.value(ctx);
+        BiConsumer consumer = ctx.target();
+        consumer.accept(key, value);
+        return true;
+    }
+}
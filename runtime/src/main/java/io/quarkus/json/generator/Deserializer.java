@@ -75,9 +75,14 @@ public class Deserializer {
             return this;
         }
 
-        public void generate() {
+        /**
+         * @return user types the generated parser delegates to.  They need their own generated parser.
+         */
+        public Set<Class> generate() {
             if (targetGenericType == null) targetGenericType = targetType;
-            new Deserializer(output, targetType, targetGenericType).generate();
+            Deserializer deserializer = new Deserializer(output, targetType, targetGenericType);
+            deserializer.generate();
+            return deserializer.requiredParesrs.keySet();
         }
     }
 
@@ -309,6 +314,7 @@ public class Deserializer {
                 return scope.readInstanceField(FieldDescriptor.of(GenericSetParser.class, "startList", ParserState.class), PARSER);
             }
         } else {
+            requiredParser(type, genericType);
             FieldDescriptor parserField = FieldDescriptor.of(fqn(type, genericType), "PARSER", fqn(type, genericType));
             ResultHandle PARSER = scope.readStaticField(parserField);
             return scope.readInstanceField(FieldDescriptor.of(ObjectParser.class, "start", ParserState.class), PARSER);
@@ -374,6 +380,7 @@ public class Deserializer {
             }
         } else {
             // todo handle nested collections and maps
+            requiredParser(type, genericType);
             FieldDescriptor parserField = FieldDescriptor.of(fqn(type, genericType), "PARSER", fqn(type, genericType));
             ResultHandle PARSER = scope.readStaticField(parserField);
             return scope.readInstanceField(FieldDescriptor.of(ObjectParser.class, "continueStart", ParserState.class), PARSER);
@@ -583,6 +590,7 @@ public class Deserializer {
             return scope.readInstanceField(FieldDescriptor.of(GenericParser.class, "continueStart", ParserState.class), PARSER);
         } else {
             // todo handle nested collections and maps
+            requiredParser(type, genericType);
             FieldDescriptor parserField = FieldDescriptor.of(fqn(type, genericType), "PARSER", fqn(type, genericType));
             ResultHandle PARSER = scope.readStaticField(parserField);
             return scope.readInstanceField(FieldDescriptor.of(ObjectParser.class, "continueStart", ParserState.class), PARSER);
@@ -662,6 +670,7 @@ public class Deserializer {
             MethodDescriptor descriptor = MethodDescriptor.ofMethod(GenericParser.class, "start", boolean.class, ParserContext.class);
             return scope.invokeVirtualMethod(descriptor, PARSER, ctx.ctx);
         } else {
+            requiredParser(type, genericType);
             FieldDescriptor parserField = FieldDescriptor.of(fqn(type, genericType), "PARSER", fqn(type, genericType));
             ResultHandle PARSER = scope.readStaticField(parserField);
             MethodDescriptor descriptor = MethodDescriptor.ofMethod(fqn(type, genericType), "start", boolean.class.getName(), ParserContext.class.getName());
@@ -670,6 +679,11 @@ public class Deserializer {
     }
 
 
+    private void requiredParser(Class type, Type genericType) {
+        if (type.equals(Object.class) || type.equals(targetType)) return;
+        requiredParesrs.put(type, genericType);
+    }
+
     private MethodDescriptor valueSeparator() {
         return MethodDescriptor.ofMethod(fqn(), "valueSeparator", boolean.class.getName(), ParserContext.class.getName());
     }
@@ -0,0 +1,41 @@
+package io.quarkus.json.generator;
+
+import io.quarkus.gizmo.ClassOutput;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Writes generated classes as .class files under a directory, e.g. target/classes.
+ */
+public class FileClassOutput implements ClassOutput {
+    private final Path directory;
+
+    public FileClassOutput(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public Path classFile(String name) {
+        return directory.resolve(name.replace('.', '/') + ".class");
+    }
+
+    @Override
+    public void write(String name, byte[] data) {
+        Path file = classFile(name);
+        try {
+            Files.createDirectories(file.getParent());
+            // write to a sibling and move so a concurrent build never sees a partial class
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            Files.write(tmp, data);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write " + file, e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkus.json.generator;
+
+import io.quarkus.gizmo.ClassOutput;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public class Generator {
+
+    /**
+     * Generates parser and serializer for each type and for every user type reachable from them.
+     *
+     * @return all types that were generated
+     */
+    public static Set<Class> generate(ClassOutput output, Collection<Class> types) {
+        Set<Class> generated = new LinkedHashSet<>();
+        Deque<Class> queue = new ArrayDeque<>(types);
+        while (!queue.isEmpty()) {
+            Class type = queue.pop();
+            if (!isGeneratable(type) || !generated.add(type)) continue;
+            queue.addAll(generate(output, type));
+        }
+        return generated;
+    }
+
+    /**
+     * Generates parser and serializer for a single type.
+     *
+     * @return user types the generated classes depend on
+     */
+    public static Set<Class> generate(ClassOutput output, Class type) {
+        Set<Class> required = new LinkedHashSet<>();
+        required.addAll(Deserializer.create(type).output(output).generate());
+        required.addAll(Serializer.create(type).output(output).generate());
+        return required;
+    }
+
+    public static boolean isGeneratable(Class type) {
+        return !type.isPrimitive() && !type.isArray() && !Modifier.isAbstract(type.getModifiers())
+                && !type.getName().startsWith("java.");
+    }
+}
@@ -0,0 +1,201 @@
+package io.quarkus.json.generator;
+
+import io.quarkus.gizmo.ClassOutput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * On-disk cache of generated parsers and serializers.  Entries are keyed by a hash of the generator
+ * and of the shape of the type (its setters and getters with their generic signatures), so only types
+ * whose shape changed are generated again.
+ */
+public class GeneratorCache {
+    static final String VERSION = generatorVersion();
+
+    private final Path directory;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    public GeneratorCache(Path directory) {
+        this.directory = directory;
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Same as {@link Generator#generate(ClassOutput, Collection)} but unchanged types are replayed from the cache.
+     */
+    public Set<Class> generate(ClassOutput output, Collection<Class> types) {
+        Set<Class> generated = new LinkedHashSet<>();
+        Deque<Class> queue = new ArrayDeque<>(types);
+        while (!queue.isEmpty()) {
+            Class type = queue.pop();
+            if (!Generator.isGeneratable(type) || !generated.add(type)) continue;
+            queue.addAll(generate(output, type));
+        }
+        return generated;
+    }
+
+    /**
+     * Same as {@link Generator#generate(ClassOutput, Class)} but replayed from the cache if the type did not change.
+     */
+    public Set<Class> generate(ClassOutput output, Class type) {
+        String key = key(type);
+        Path entry = directory.resolve(type.getName() + "-" + key + ".cache");
+        if (Files.exists(entry)) {
+            try {
+                Set<Class> required = read(entry, output, type.getClassLoader());
+                hits.incrementAndGet();
+                return required;
+            } catch (IOException | ClassNotFoundException e) {
+                // corrupt or stale entry, generate again
+            }
+        }
+        misses.incrementAndGet();
+        MemoryClassOutput memory = new MemoryClassOutput();
+        Set<Class> required = Generator.generate(memory, type);
+        for (Map.Entry<String, byte[]> clz : memory.getBytecode().entrySet()) {
+            output.write(clz.getKey(), clz.getValue());
+        }
+        write(type, entry, memory, required);
+        return required;
+    }
+
+    /**
+     * Hash of the generator version, the type name and every setter and getter the generator would look at.
+     */
+    public static String key(Class type) {
+        Set<String> shape = new TreeSet<>();
+        for (Method m : type.getMethods()) {
+            if (Deserializer.isSetter(m) || Serializer.isGetter(m)) shape.add(m.toGenericString());
+        }
+        MessageDigest digest = sha256();
+        digest.update(VERSION.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(type.getName().getBytes(StandardCharsets.UTF_8));
+        for (String method : shape) {
+            digest.update((byte) 0);
+            digest.update(method.getBytes(StandardCharsets.UTF_8));
+        }
+        return hex(digest.digest());
+    }
+
+    private Set<Class> read(Path entry, ClassOutput output, ClassLoader loader) throws IOException, ClassNotFoundException {
+        Set<Class> required = new LinkedHashSet<>();
+        Map<String, byte[]> classes = new LinkedHashMap<>();
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(entry))) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                required.add(Class.forName(in.readUTF(), false, loader));
+            }
+            count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                byte[] data = new byte[in.readInt()];
+                in.readFully(data);
+                classes.put(name, data);
+            }
+        }
+        // only write once the whole entry was read so a truncated entry never produces partial output
+        for (Map.Entry<String, byte[]> clz : classes.entrySet()) {
+            output.write(clz.getKey(), clz.getValue());
+        }
+        return required;
+    }
+
+    private void write(Class type, Path entry, MemoryClassOutput memory, Set<Class> required) {
+        try {
+            Files.createDirectories(directory);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(required.size());
+                for (Class clz : required) out.writeUTF(clz.getName());
+                out.writeInt(memory.getBytecode().size());
+                for (Map.Entry<String, byte[]> clz : memory.getBytecode().entrySet()) {
+                    out.writeUTF(clz.getKey());
+                    out.writeInt(clz.getValue().length);
+                    out.write(clz.getValue());
+                }
+            }
+            // stale entries of the same type are of no use anymore
+            List<Path> stale = new ArrayList<>();
+            try (DirectoryStream<Path> old = Files.newDirectoryStream(directory, type.getName() + "-*.cache")) {
+                for (Path path : old) stale.add(path);
+            }
+            for (Path path : stale) Files.deleteIfExists(path);
+
+            Path tmp = Files.createTempFile(directory, type.getName(), ".tmp");
+            Files.write(tmp, bytes.toByteArray());
+            Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // the cache is an optimization, a failed write only means the type is generated again next time
+        }
+    }
+
+    /**
+     * Hash of the generator's own bytecode so any change to it invalidates the cache.
+     */
+    private static String generatorVersion() {
+        MessageDigest digest = sha256();
+        for (Class clz : new Class[]{Generator.class, Deserializer.class, Serializer.class, Types.class}) {
+            try (InputStream is = clz.getResourceAsStream(clz.getSimpleName() + ".class")) {
+                if (is == null) {
+                    digest.update(clz.getName().getBytes(StandardCharsets.UTF_8));
+                    continue;
+                }
+                byte[] buf = new byte[8192];
+                for (int read = is.read(buf); read != -1; read = is.read(buf)) {
+                    digest.update(buf, 0, read);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return hex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+}
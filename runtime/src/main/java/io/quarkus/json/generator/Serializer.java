@@ -0,0 +1,898 @@
+package io.quarkus.json.generator;
+
+import io.quarkus.gizmo.AssignableResultHandle;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldCreator;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.json.serializer.CollectionWriter;
+import io.quarkus.json.serializer.JsonByteWriter;
+import io.quarkus.json.serializer.JsonSize;
+import io.quarkus.json.serializer.JsonWriter;
+import io.quarkus.json.serializer.KeyWriter;
+import io.quarkus.json.serializer.MapWriter;
+import io.quarkus.json.serializer.ObjectWriter;
+import io.quarkus.json.serializer.ObjectWriters;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.objectweb.asm.Opcodes.*;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+
+public class Serializer {
+
+    // constructor
+    public static final String INIT = "<init>";
+    // static initializer
+    public static final String CLINIT = "<clinit>";
+
+    public static Builder create(Class targetType) {
+        return new Builder().type(targetType);
+    }
+
+    public static class Builder {
+        Class targetType;
+        Type targetGenericType;
+        ClassOutput output;
+        boolean devirtualize = true;
+
+        private Builder() {
+        }
+
+        public Builder type(Class targetType) {
+            this.targetType = targetType;
+            return this;
+        }
+
+        public Builder generic(Type targetGenericType) {
+            this.targetGenericType = targetGenericType;
+            return this;
+        }
+
+        public Builder output(ClassOutput output) {
+            this.output = output;
+            return this;
+        }
+
+        /**
+         * Also generate a write method bound to {@link JsonByteWriter} that the JsonWriter one delegates to.  On by default.
+         */
+        public Builder devirtualize(boolean devirtualize) {
+            this.devirtualize = devirtualize;
+            return this;
+        }
+
+        /**
+         * @return user types the generated serializer delegates to.  They need their own generated serializer.
+         */
+        public Set<Class> generate() {
+            if (targetGenericType == null) targetGenericType = targetType;
+            Serializer serializer = new Serializer(output, targetType, targetGenericType);
+            serializer.devirtualize = devirtualize;
+            serializer.generate();
+            return serializer.needed.keySet();
+        }
+    }
+
+    ClassCreator creator;
+    MethodCreator staticConstructor;
+
+    Class targetType;
+    Type targetGenericType;
+    List<Getter> getters = new LinkedList<>();
+    HashMap<Class, Type> needed = new HashMap<>();
+    HashMap<String, FieldDescriptor> names = new HashMap<>();
+    boolean devirtualize;
+
+    public static String name(Class clz, Type genericType) {
+        return clz.getSimpleName() + "__Serializer";
+    }
+
+    public static String fqn(Class clz, Type genericType) {
+        return clz.getName() + "__Serializer";
+    }
+
+    Serializer(ClassOutput classOutput, Class targetType, Type targetGenericType) {
+        this(classOutput, fqn(targetType, targetGenericType), targetType, targetGenericType);
+    }
+
+    Serializer(ClassOutput classOutput, String className, Class targetType, Type targetGenericType) {
+        this.targetType = targetType;
+        this.targetGenericType = targetGenericType;
+        creator = ClassCreator.builder().classOutput(classOutput)
+                .className(className)
+                .interfaces(ObjectWriter.class).build();
+    }
+
+    void generate() {
+        findGetters(targetType);
+        singleton();
+        if (devirtualize) writeMethod(JsonByteWriter.class);
+        writeMethod(JsonWriter.class);
+        sizeMethod();
+        staticConstructor.returnValue(null);
+        creator.close();
+    }
+
+    private void singleton() {
+        FieldCreator SERIALIZER = creator.getFieldCreator("SERIALIZER", fqn()).setModifiers(ACC_STATIC | ACC_PUBLIC);
+
+
+        staticConstructor = creator.getMethodCreator(CLINIT, void.class);
+        staticConstructor.setModifiers(ACC_STATIC);
+        ResultHandle instance = staticConstructor.newInstance(MethodDescriptor.ofConstructor(fqn()));
+        staticConstructor.writeStaticField(SERIALIZER.getFieldDescriptor(), instance);
+        for (Getter getter : getters) {
+            collectionField(staticConstructor, getter);
+        }
+    }
+
+    private FieldDescriptor nameConstant(Getter getter, boolean comma) {
+        // both write methods share the constant, the comma of a property is the same in each
+        FieldDescriptor existing = names.get(getter.property);
+        if (existing != null) return existing;
+        FieldCreator name = creator.getFieldCreator(getter.property + "$name", byte[].class).setModifiers(ACC_STATIC | ACC_PRIVATE | ACC_FINAL);
+        ResultHandle bytes = staticConstructor.invokeStaticMethod(MethodDescriptor.ofMethod(JsonByteWriter.class, "encodeName", byte[].class, String.class, boolean.class),
+                staticConstructor.load(getter.name), staticConstructor.load(comma));
+        staticConstructor.writeStaticField(name.getFieldDescriptor(), bytes);
+        names.put(getter.property, name.getFieldDescriptor());
+        return name.getFieldDescriptor();
+    }
+
+    private void collectionField(MethodCreator staticConstructor, Getter getter) {
+        Type genericType = getter.genericType;
+        Class type = getter.type;
+        String property = getter.property;
+        if (genericType instanceof ParameterizedType) {
+            if (Map.class.isAssignableFrom(type)) {
+                ParameterizedType pt = (ParameterizedType) genericType;
+                Type valueType = pt.getActualTypeArguments()[1];
+                Class valueClass = Types.getRawType(valueType);
+                if (hasNestedWriter(valueClass, valueType)) {
+                    collectionField(staticConstructor, valueClass, valueType, property + "_n");
+                }
+            } else if (List.class.isAssignableFrom(type) || Set.class.isAssignableFrom(type) || lazySource(type) != null) {
+                ParameterizedType pt = (ParameterizedType) genericType;
+                Type valueType = pt.getActualTypeArguments()[0];
+                Class valueClass = Types.getRawType(valueType);
+                if (hasNestedWriter(valueClass, valueType)) {
+                    collectionField(staticConstructor, valueClass, valueType, property + "_n");
+                }
+            } else {
+                // ignore we don't need a special parser
+            }
+        }
+    }
+    private ResultHandle getNestedValueWriter(MethodCreator staticConstructor, Class type, Type genericType, String property) {
+        if (!hasNestedWriter(type, genericType)) return null;
+        if (isUserObject(type)) {
+            needed(type, genericType);
+            return staticConstructor.readStaticField(FieldDescriptor.of(fqn(type, genericType), "SERIALIZER", fqn(type, genericType)));
+        }
+        collectionField(staticConstructor, type, genericType, property);
+        return staticConstructor.readStaticField(FieldDescriptor.of(fqn(), property, ObjectWriter.class));
+    }
+
+    /**
+     * The KeyWriter constant for the declared key type of a map, null if keys are written by their runtime type.
+     */
+    private FieldDescriptor keyWriter(Type mapType) {
+        if (!(mapType instanceof ParameterizedType)) return null;
+        String constant = KeyWriter.constant(Types.getRawType(((ParameterizedType) mapType).getActualTypeArguments()[0]));
+        return constant == null ? null : FieldDescriptor.of(KeyWriter.class, constant, KeyWriter.class);
+    }
+
+    private void collectionField(MethodCreator staticConstructor, Class type, Type genericType, String property) {
+        if (genericType instanceof ParameterizedType) {
+            if (Map.class.isAssignableFrom(type)) {
+                ParameterizedType pt = (ParameterizedType) genericType;
+                Type valueType = pt.getActualTypeArguments()[1];
+                Class valueClass = Types.getRawType(valueType);
+                ResultHandle nested = getNestedValueWriter(staticConstructor, valueClass, valueType, property + "_n");
+                if (nested == null) return;
+
+                FieldCreator mapWriter = creator.getFieldCreator(property, ObjectWriter.class).setModifiers(ACC_STATIC | ACC_PRIVATE | ACC_FINAL);
+                FieldDescriptor keyWriter = keyWriter(genericType);
+                ResultHandle instance = keyWriter == null
+                        ? staticConstructor.newInstance(MethodDescriptor.ofConstructor(MapWriter.class, ObjectWriter.class), nested)
+                        : staticConstructor.newInstance(MethodDescriptor.ofConstructor(MapWriter.class, KeyWriter.class, ObjectWriter.class),
+                        staticConstructor.readStaticField(keyWriter), nested);
+                staticConstructor.writeStaticField(mapWriter.getFieldDescriptor(), instance);
+            } else if (List.class.isAssignableFrom(type) || Set.class.isAssignableFrom(type)) {
+                ParameterizedType pt = (ParameterizedType) genericType;
+                Type valueType = pt.getActualTypeArguments()[0];
+                Class valueClass = Types.getRawType(valueType);
+                ResultHandle nested = getNestedValueWriter(staticConstructor, valueClass, valueType, property + "_n");
+                if (nested == null) return;
+
+                FieldCreator mapWriter = creator.getFieldCreator(property, ObjectWriter.class).setModifiers(ACC_STATIC | ACC_PRIVATE | ACC_FINAL);
+                ResultHandle instance = staticConstructor.newInstance(MethodDescriptor.ofConstructor(CollectionWriter.class, ObjectWriter.class),
+                        nested);
+                staticConstructor.writeStaticField(mapWriter.getFieldDescriptor(), instance);
+            } else {
+                // ignore we don't need a special parser
+            }
+        }
+    }
+
+
+    /**
+     * Generates write(writer, target).  With JsonByteWriter every call is an invokevirtual on a final class so the
+     * JIT can inline the encoding no matter how many JsonWriter implementations the application uses.
+     */
+    private void writeMethod(Class writer) {
+        MethodCreator method = creator.getMethodCreator("write", void.class, writer, Object.class);
+        ResultHandle jsonWriter = method.getMethodParam(0);
+        if (devirtualize && writer.isInterface()) {
+            ResultHandle direct = method.invokeStaticMethod(MethodDescriptor.ofMethod(JsonByteWriter.class, "direct", JsonByteWriter.class, JsonWriter.class), jsonWriter);
+            BytecodeCreator bytes = method.ifNull(direct).falseBranch();
+            bytes.invokeVirtualMethod(MethodDescriptor.ofMethod(fqn(), "write", void.class, JsonByteWriter.class, Object.class), bytes.getThis(),
+                    direct, method.getMethodParam(1));
+            bytes.returnValue(null);
+        }
+        AssignableResultHandle target = method.createVariable(targetType);
+        method.assign(target, method.getMethodParam(1));
+        AssignableResultHandle comma = method.createVariable(boolean.class);
+        method.assign(comma, method.load(false));
+        boolean forceComma = false;
+        int reserve = primitiveObjectSize();
+        if (reserve > 0 && !writer.isInterface()) {
+            primitiveObject(method, jsonWriter, target, reserve);
+            return;
+        }
+        if (reserve > 0) {
+            // the whole object fits after one capacity check
+            invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "reserve", void.class, int.class), jsonWriter, method.load(reserve));
+        }
+        invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeLCurley", void.class), jsonWriter);
+        // todo support an interface as type
+        for (Getter getter : getters) {
+            // once a primitive property was written the comma is known and is part of the name constant
+            ResultHandle name = method.readStaticField(nameConstant(getter, forceComma));
+            ResultHandle commaArg = forceComma ? method.load(false) : comma;
+            if (getter.type.equals(int.class)) {
+                invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", void.class, byte[].class, int.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) {
+                    method.assign(comma, method.load(true));
+                    forceComma = true;
+                }
+            } else if (getter.type.equals(Integer.class)) {
+                ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, Integer.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) method.assign(comma, result);
+            } else if (getter.type.equals(short.class)) {
+                invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", void.class, byte[].class, short.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) {
+                    method.assign(comma, method.load(true));
+                    forceComma = true;
+                }
+            } else if (getter.type.equals(Short.class)) {
+                ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, Short.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) method.assign(comma, result);
+            } else if (getter.type.equals(long.class)) {
+                invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", void.class, byte[].class, long.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) {
+                    method.assign(comma, method.load(true));
+                    forceComma = true;
+                }
+            } else if (getter.type.equals(Long.class)) {
+                ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, Long.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) method.assign(comma, result);
+            } else if (getter.type.equals(byte.class)) {
+                invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", void.class, byte[].class, byte.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) {
+                    method.assign(comma, method.load(true));
+                    forceComma = true;
+                }
+            } else if (getter.type.equals(Byte.class)) {
+                ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, Byte.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) method.assign(comma, result);
+            } else if (getter.type.equals(boolean.class)) {
+                invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", void.class, byte[].class, boolean.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) {
+                    method.assign(comma, method.load(true));
+                    forceComma = true;
+                }
+            } else if (getter.type.equals(Boolean.class)) {
+                ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, Boolean.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) method.assign(comma, result);
+            } else if (getter.type.equals(float.class)) {
+                invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", void.class, byte[].class, float.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) {
+                    method.assign(comma, method.load(true));
+                    forceComma = true;
+                }
+            } else if (getter.type.equals(Float.class)) {
+                ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, Float.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) method.assign(comma, result);
+            } else if (getter.type.equals(double.class)) {
+                invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", void.class, byte[].class, double.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) {
+                    method.assign(comma, method.load(true));
+                    forceComma = true;
+                }
+            } else if (getter.type.equals(Double.class)) {
+                ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, Double.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) method.assign(comma, result);
+            } else if (getter.type.equals(char.class)) {
+                invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", void.class, byte[].class, char.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) {
+                    method.assign(comma, method.load(true));
+                    forceComma = true;
+                }
+            } else if (getter.type.equals(Character.class)) {
+                ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, Character.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) method.assign(comma, result);
+            } else if (getter.type.equals(String.class)) {
+                ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, String.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) method.assign(comma, result);
+            } else if (getter.type.equals(BigDecimal.class)) {
+                ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, BigDecimal.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) method.assign(comma, result);
+            } else if (Map.class.isAssignableFrom(getter.type)) {
+                FieldDescriptor keyWriter = keyWriter(getter.genericType);
+                if (hasElementLoop(getter)) {
+                    loopProperty(method, writer, jsonWriter, name, commaArg, comma, forceComma,
+                            method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                            mapLoop(writer, getter));
+                } else if (keyWriter != null) {
+                    ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, Map.class, KeyWriter.class, ObjectWriter.class, boolean.class), jsonWriter,
+                            name,
+                            method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                            method.readStaticField(keyWriter),
+                            hasCollectionWriter(getter) ? getMapWriter(method, getter) : method.loadNull(),
+                            commaArg
+                    );
+                    if (!forceComma) method.assign(comma, result);
+                } else if (hasCollectionWriter(getter)) {
+                    ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, Map.class, ObjectWriter.class, boolean.class), jsonWriter,
+                            name,
+                            method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                            getMapWriter(method, getter),
+                            commaArg
+                    );
+                    if (!forceComma) method.assign(comma, result);
+                } else {
+                    ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, Map.class, boolean.class), jsonWriter,
+                            name,
+                            method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                            commaArg);
+                    if (!forceComma) method.assign(comma, result);
+                }
+            } else if (Collection.class.isAssignableFrom(getter.type)) {
+                if (hasElementLoop(getter)) {
+                    loopProperty(method, writer, jsonWriter, name, commaArg, comma, forceComma,
+                            method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                            collectionLoop(writer, getter));
+                } else if (hasCollectionWriter(getter)) {
+                    ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, Collection.class, ObjectWriter.class, boolean.class), jsonWriter,
+                            name,
+                            method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                            getCollectionWriter(method, getter),
+                            commaArg
+                    );
+                    if (!forceComma) method.assign(comma, result);
+                } else {
+                    ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, Collection.class, boolean.class), jsonWriter,
+                            name,
+                            method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                            commaArg);
+                    if (!forceComma) method.assign(comma, result);
+                }
+            } else if (lazySource(getter.type) != null) {
+                Class source = lazySource(getter.type);
+                if (hasCollectionWriter(getter)) {
+                    ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, source, ObjectWriter.class, boolean.class), jsonWriter,
+                            name,
+                            method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                            getCollectionWriter(method, getter),
+                            commaArg
+                    );
+                    if (!forceComma) method.assign(comma, result);
+                } else {
+                    ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeProperty", boolean.class, byte[].class, source, boolean.class), jsonWriter,
+                            name,
+                            method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                            commaArg);
+                    if (!forceComma) method.assign(comma, result);
+                }
+            } else if (getter.type.equals(Object.class)) {
+                ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeObjectProperty", boolean.class, byte[].class, Object.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        commaArg);
+                if (!forceComma) method.assign(comma, result);
+            } else {
+                needed(getter.type, getter.genericType);
+                ResultHandle result = invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeObjectProperty", boolean.class, byte[].class, Object.class, ObjectWriter.class, boolean.class), jsonWriter,
+                        name,
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target),
+                        method.readStaticField(FieldDescriptor.of(fqn(getter.type, getter.genericType), "SERIALIZER", fqn(getter.type, getter.genericType))),
+                        commaArg
+                );
+                if (!forceComma) method.assign(comma, result);
+            }
+        }
+        invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeRCurley", void.class), jsonWriter);
+        method.returnValue(null);
+    }
+
+    /**
+     * Writes an object with only primitive properties into one reserved region of the JsonByteWriter, with no
+     * bounds check per property.  The first property is the only one whose name has no comma.
+     */
+    private void primitiveObject(MethodCreator method, ResultHandle jsonWriter, ResultHandle target, int reserve) {
+        AssignableResultHandle pos = method.createVariable(int.class);
+        method.assign(pos, method.invokeVirtualMethod(MethodDescriptor.ofMethod(JsonByteWriter.class, "reserveRegion", int.class, int.class), jsonWriter, method.load(reserve)));
+        ResultHandle buf = method.invokeVirtualMethod(MethodDescriptor.ofMethod(JsonByteWriter.class, "buffer", byte[].class), jsonWriter);
+        method.assign(pos, method.invokeStaticMethod(MethodDescriptor.ofMethod(JsonByteWriter.class, "appendLCurley", int.class, byte[].class, int.class), buf, pos));
+        boolean comma = false;
+        for (Getter getter : getters) {
+            ResultHandle value = method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target);
+            method.assign(pos, method.invokeStaticMethod(MethodDescriptor.ofMethod(JsonByteWriter.class, "appendProperty", int.class, byte[].class, getter.type, byte[].class, int.class),
+                    method.readStaticField(nameConstant(getter, comma)), value, buf, pos));
+            comma = true;
+        }
+        method.assign(pos, method.invokeStaticMethod(MethodDescriptor.ofMethod(JsonByteWriter.class, "appendRCurley", int.class, byte[].class, int.class), buf, pos));
+        method.invokeVirtualMethod(MethodDescriptor.ofMethod(JsonByteWriter.class, "commit", void.class, int.class), jsonWriter, pos);
+        method.returnValue(null);
+    }
+
+    /**
+     * Writes the name and calls the generated loop if the collection or map is not null.
+     */
+    private void loopProperty(MethodCreator method, Class writer, ResultHandle jsonWriter, ResultHandle name, ResultHandle commaArg,
+                              AssignableResultHandle comma, boolean forceComma, ResultHandle value, MethodDescriptor loop) {
+        BytecodeCreator present = method.ifNotNull(value).trueBranch();
+        invokeWriter(present, writer, MethodDescriptor.ofMethod(writer, "writeName", void.class, byte[].class, boolean.class), jsonWriter, name, commaArg);
+        present.invokeStaticMethod(loop, jsonWriter, value);
+        if (!forceComma) present.assign(comma, present.load(true));
+    }
+
+    /**
+     * Generates a static loop over the elements of a collection property.  RandomAccess lists are read by index,
+     * everything else through its iterator.
+     */
+    private MethodDescriptor collectionLoop(Class writer, Getter getter) {
+        Type elementType = ((ParameterizedType) getter.genericType).getActualTypeArguments()[0];
+        MethodCreator loop = creator.getMethodCreator(getter.property + "$elements", void.class, writer, Collection.class);
+        loop.setModifiers(ACC_PRIVATE | ACC_STATIC);
+        ResultHandle jsonWriter = loop.getMethodParam(0);
+        ResultHandle val = loop.getMethodParam(1);
+        invokeWriter(loop, writer, MethodDescriptor.ofMethod(writer, "writeLBracket", void.class), jsonWriter);
+        ResultHandle list = loop.invokeStaticMethod(MethodDescriptor.ofMethod(CollectionWriter.class, "randomAccess", List.class, Collection.class), val);
+        BranchResult randomAccess = loop.ifNotNull(list);
+
+        BytecodeCreator indexed = randomAccess.trueBranch();
+        ResultHandle size = indexed.invokeInterfaceMethod(MethodDescriptor.ofMethod(List.class, "size", int.class), list);
+        AssignableResultHandle i = indexed.createVariable(int.class);
+        indexed.assign(i, indexed.load(0));
+        BytecodeCreator next = indexed.createScope();
+        next.ifIntegerGreaterEqual(i, size).trueBranch().breakScope(next);
+        BytecodeCreator separator = next.ifGreaterThanZero(i).trueBranch();
+        invokeWriter(separator, writer, MethodDescriptor.ofMethod(writer, "writeComma", void.class), jsonWriter);
+        writeElement(next, writer, jsonWriter, next.invokeInterfaceMethod(MethodDescriptor.ofMethod(List.class, "get", Object.class, int.class), list, i), elementType);
+        // gizmo has no arithmetic, incrementExact is an intrinsic
+        next.assign(i, next.invokeStaticMethod(MethodDescriptor.ofMethod(Math.class, "incrementExact", int.class, int.class), i));
+        next.continueScope(next);
+
+        BytecodeCreator iterated = randomAccess.falseBranch();
+        ResultHandle it = iterated.invokeInterfaceMethod(MethodDescriptor.ofMethod(Collection.class, "iterator", Iterator.class), val);
+        AssignableResultHandle comma = iterated.createVariable(boolean.class);
+        iterated.assign(comma, iterated.load(false));
+        next = iterated.createScope();
+        next.ifFalse(next.invokeInterfaceMethod(MethodDescriptor.ofMethod(Iterator.class, "hasNext", boolean.class), it)).trueBranch().breakScope(next);
+        separator = next.ifTrue(comma).trueBranch();
+        invokeWriter(separator, writer, MethodDescriptor.ofMethod(writer, "writeComma", void.class), jsonWriter);
+        next.assign(comma, next.load(true));
+        writeElement(next, writer, jsonWriter, next.invokeInterfaceMethod(MethodDescriptor.ofMethod(Iterator.class, "next", Object.class), it), elementType);
+        next.continueScope(next);
+
+        invokeWriter(loop, writer, MethodDescriptor.ofMethod(writer, "writeRBracket", void.class), jsonWriter);
+        loop.returnValue(null);
+        return loop.getMethodDescriptor();
+    }
+
+    /**
+     * Generates a static loop over the entries of a map property, keys are written by their declared type.
+     */
+    private MethodDescriptor mapLoop(Class writer, Getter getter) {
+        Type[] types = ((ParameterizedType) getter.genericType).getActualTypeArguments();
+        MethodCreator loop = creator.getMethodCreator(getter.property + "$entries", void.class, writer, Map.class);
+        loop.setModifiers(ACC_PRIVATE | ACC_STATIC);
+        ResultHandle jsonWriter = loop.getMethodParam(0);
+        invokeWriter(loop, writer, MethodDescriptor.ofMethod(writer, "writeLCurley", void.class), jsonWriter);
+        ResultHandle entries = loop.invokeInterfaceMethod(MethodDescriptor.ofMethod(Map.class, "entrySet", Set.class), loop.getMethodParam(1));
+        ResultHandle it = loop.invokeInterfaceMethod(MethodDescriptor.ofMethod(Set.class, "iterator", Iterator.class), entries);
+        AssignableResultHandle comma = loop.createVariable(boolean.class);
+        loop.assign(comma, loop.load(false));
+        BytecodeCreator next = loop.createScope();
+        next.ifFalse(next.invokeInterfaceMethod(MethodDescriptor.ofMethod(Iterator.class, "hasNext", boolean.class), it)).trueBranch().breakScope(next);
+        BytecodeCreator separator = next.ifTrue(comma).trueBranch();
+        invokeWriter(separator, writer, MethodDescriptor.ofMethod(writer, "writeComma", void.class), jsonWriter);
+        next.assign(comma, next.load(true));
+        ResultHandle entry = next.invokeInterfaceMethod(MethodDescriptor.ofMethod(Iterator.class, "next", Object.class), it);
+        writeKey(next, writer, jsonWriter, next.invokeInterfaceMethod(MethodDescriptor.ofMethod(Map.Entry.class, "getKey", Object.class), entry),
+                Types.getRawType(types[0]) == null ? Object.class : Types.getRawType(types[0]));
+        invokeWriter(next, writer, MethodDescriptor.ofMethod(writer, "writeColon", void.class), jsonWriter);
+        writeElement(next, writer, jsonWriter, next.invokeInterfaceMethod(MethodDescriptor.ofMethod(Map.Entry.class, "getValue", Object.class), entry), types[1]);
+        next.continueScope(next);
+        invokeWriter(loop, writer, MethodDescriptor.ofMethod(writer, "writeRCurley", void.class), jsonWriter);
+        loop.returnValue(null);
+        return loop.getMethodDescriptor();
+    }
+
+    /**
+     * Writes one element with the encoder of its declared type.  Boxes are unboxed in place and user objects go
+     * straight to their generated serializer.
+     */
+    private void writeElement(BytecodeCreator method, Class writer, ResultHandle jsonWriter, ResultHandle element, Type elementType) {
+        Class type = Types.getRawType(elementType);
+        Class primitive = unboxed(type);
+        if (primitive != null) {
+            ResultHandle value = method.invokeVirtualMethod(MethodDescriptor.ofMethod(type, primitive.getName() + "Value", primitive), method.checkCast(element, type));
+            invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "write", void.class, primitive), jsonWriter, value);
+        } else if (type.equals(String.class) || type.equals(BigDecimal.class)) {
+            invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "write", void.class, type), jsonWriter, method.checkCast(element, type));
+        } else if (type.equals(Object.class)) {
+            invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeObject", void.class, Object.class), jsonWriter, element);
+        } else {
+            needed(type, elementType);
+            String serializer = fqn(type, elementType);
+            method.invokeVirtualMethod(MethodDescriptor.ofMethod(serializer, "write", void.class, writer, Object.class),
+                    method.readStaticField(FieldDescriptor.of(serializer, "SERIALIZER", serializer)), jsonWriter, element);
+        }
+    }
+
+    private void writeKey(BytecodeCreator method, Class writer, ResultHandle jsonWriter, ResultHandle key, Class type) {
+        Class primitive = unboxed(type);
+        if (primitive != null) {
+            ResultHandle value = method.invokeVirtualMethod(MethodDescriptor.ofMethod(type, primitive.getName() + "Value", primitive), method.checkCast(key, type));
+            invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeKey", void.class, primitive), jsonWriter, value);
+        } else if (type.equals(String.class)) {
+            invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeKey", void.class, String.class), jsonWriter, method.checkCast(key, String.class));
+        } else {
+            invokeWriter(method, writer, MethodDescriptor.ofMethod(writer, "writeKey", void.class, Object.class), jsonWriter, key);
+        }
+    }
+
+    /**
+     * The primitive a box is written as, Short and Byte are written as ints like their JsonWriter overloads do.
+     */
+    private static Class unboxed(Class type) {
+        if (type.equals(Integer.class) || type.equals(Short.class) || type.equals(Byte.class)) return int.class;
+        if (type.equals(Long.class)) return long.class;
+        if (type.equals(Boolean.class)) return boolean.class;
+        if (type.equals(Float.class)) return float.class;
+        if (type.equals(Double.class)) return double.class;
+        if (type.equals(Character.class)) return char.class;
+        return null;
+    }
+
+    /**
+     * Generates size(target, objectWriters), the exact number of bytes write produces with a JsonByteWriter.  Follows the same
+     * property order and null handling, but only adds up the sizes JsonSize computes.
+     */
+    private void sizeMethod() {
+        MethodCreator method = creator.getMethodCreator("size", int.class, Object.class, ObjectWriters.class);
+        ResultHandle objectWriters = method.getMethodParam(1);
+        AssignableResultHandle target = method.createVariable(targetType);
+        method.assign(target, method.getMethodParam(0));
+        AssignableResultHandle size = method.createVariable(int.class);
+        method.assign(size, method.load(JsonSize.EMPTY_OBJECT));
+        for (Getter getter : getters) {
+            ResultHandle nameLength = method.load(JsonByteWriter.encodeName(getter.name, false).length);
+            ResultHandle value = method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.method.getName(), getter.type), target);
+            ResultHandle result;
+            if (Map.class.isAssignableFrom(getter.type)) {
+                FieldDescriptor keyWriter = keyWriter(getter.genericType);
+                if (keyWriter != null) {
+                    result = method.invokeStaticMethod(MethodDescriptor.ofMethod(JsonSize.class, "property", int.class, int.class, int.class, Map.class, KeyWriter.class, ObjectWriter.class, ObjectWriters.class),
+                            size, nameLength, value, method.readStaticField(keyWriter),
+                            hasCollectionWriter(getter) ? getMapWriter(method, getter) : method.loadNull(), objectWriters);
+                } else if (hasCollectionWriter(getter)) {
+                    result = method.invokeStaticMethod(MethodDescriptor.ofMethod(JsonSize.class, "property", int.class, int.class, int.class, Map.class, ObjectWriter.class, ObjectWriters.class),
+                            size, nameLength, value, getMapWriter(method, getter), objectWriters);
+                } else {
+                    result = method.invokeStaticMethod(MethodDescriptor.ofMethod(JsonSize.class, "property", int.class, int.class, int.class, Map.class, ObjectWriters.class),
+                            size, nameLength, value, objectWriters);
+                }
+            } else if (Collection.class.isAssignableFrom(getter.type)) {
+                if (hasCollectionWriter(getter)) {
+                    result = method.invokeStaticMethod(MethodDescriptor.ofMethod(JsonSize.class, "property", int.class, int.class, int.class, Collection.class, ObjectWriter.class, ObjectWriters.class),
+                            size, nameLength, value, getCollectionWriter(method, getter), objectWriters);
+                } else {
+                    result = method.invokeStaticMethod(MethodDescriptor.ofMethod(JsonSize.class, "property", int.class, int.class, int.class, Collection.class, ObjectWriters.class),
+                            size, nameLength, value, objectWriters);
+                }
+            } else if (lazySource(getter.type) != null) {
+                Class source = lazySource(getter.type);
+                if (hasCollectionWriter(getter)) {
+                    result = method.invokeStaticMethod(MethodDescriptor.ofMethod(JsonSize.class, "property", int.class, int.class, int.class, source, ObjectWriter.class, ObjectWriters.class),
+                            size, nameLength, value, getCollectionWriter(method, getter), objectWriters);
+                } else {
+                    result = method.invokeStaticMethod(MethodDescriptor.ofMethod(JsonSize.class, "property", int.class, int.class, int.class, source, ObjectWriters.class),
+                            size, nameLength, value, objectWriters);
+                }
+            } else if (getter.type.equals(Object.class)) {
+                result = method.invokeStaticMethod(MethodDescriptor.ofMethod(JsonSize.class, "objectProperty", int.class, int.class, int.class, Object.class, ObjectWriters.class),
+                        size, nameLength, value, objectWriters);
+            } else if (!isUserObject(getter.type)) {
+                // primitives, their boxes, String and BigDecimal all have an overload
+                result = method.invokeStaticMethod(MethodDescriptor.ofMethod(JsonSize.class, "property", int.class, int.class, int.class, getter.type),
+                        size, nameLength, value);
+            } else {
+                needed(getter.type, getter.genericType);
+                result = method.invokeStaticMethod(MethodDescriptor.ofMethod(JsonSize.class, "objectProperty", int.class, int.class, int.class, Object.class, ObjectWriter.class, ObjectWriters.class),
+                        size, nameLength, value,
+                        method.readStaticField(FieldDescriptor.of(fqn(getter.type, getter.genericType), "SERIALIZER", fqn(getter.type, getter.genericType))), objectWriters);
+            }
+            method.assign(size, result);
+        }
+        method.returnValue(size);
+    }
+
+    private ResultHandle invokeWriter(BytecodeCreator method, Class writer, MethodDescriptor descriptor, ResultHandle jsonWriter, ResultHandle... args) {
+        if (writer.isInterface()) {
+            return method.invokeInterfaceMethod(descriptor, jsonWriter, args);
+        }
+        return method.invokeVirtualMethod(descriptor, jsonWriter, args);
+    }
+
+    /**
+     * Worst case size of the object if all properties are primitives, -1 otherwise.
+     */
+    private int primitiveObjectSize() {
+        int size = 2;
+        for (Getter getter : getters) {
+            int value = JsonByteWriter.maxChars(getter.type);
+            if (value < 0) return -1;
+            size += JsonByteWriter.encodeName(getter.name, true).length + value;
+        }
+        return size;
+    }
+
+    private ResultHandle getCollectionWriter(MethodCreator method, Getter getter) {
+        ParameterizedType pt = (ParameterizedType)getter.genericType;
+        Class valueClass = Types.getRawType(pt.getActualTypeArguments()[0]);
+        Type valueType = pt.getActualTypeArguments()[0];
+        return getWriter(method, getter, valueClass, valueType);
+
+    }
+
+    private ResultHandle getWriter(MethodCreator method, Getter getter, Class valueClass, Type valueType) {
+        if (isUserObject(valueClass)) {
+            needed(valueClass, valueType);
+            return method.readStaticField(FieldDescriptor.of(fqn(valueClass, valueType), "SERIALIZER", fqn(valueClass, valueType)));
+        } else {
+            return method.readStaticField(FieldDescriptor.of(fqn(), getter.property + "_n", ObjectWriter.class));
+        }
+    }
+
+    private ResultHandle getMapWriter(MethodCreator method, Getter getter) {
+        ParameterizedType pt = (ParameterizedType)getter.genericType;
+        Class valueClass = Types.getRawType(pt.getActualTypeArguments()[1]);
+        Type valueType = pt.getActualTypeArguments()[1];
+        return getWriter(method, getter, valueClass, valueType);
+
+    }
+
+    private void needed(Class type, Type genericType) {
+        if (type.equals(targetType)) return;
+        needed.put(type, genericType);
+    }
+
+    private boolean isUserObject(Class type) {
+        if (type.isPrimitive()) return false;
+        if (type.equals(String.class)
+                || type.equals(Integer.class)
+                || type.equals(Short.class)
+                || type.equals(Long.class)
+                || type.equals(Byte.class)
+                || type.equals(Boolean.class)
+                || type.equals(Double.class)
+                || type.equals(Float.class)
+                || type.equals(Character.class)
+                || type.equals(BigDecimal.class)
+                || Map.class.isAssignableFrom(type)
+                || List.class.isAssignableFrom(type)
+                || Set.class.isAssignableFrom(type)
+                || Collection.class.isAssignableFrom(type)
+                || lazySource(type) != null
+        ) {
+            return false;
+        }
+        return true;
+    }
+
+    private boolean hasCollectionWriter(Getter getter) {
+        Class type = getter.type;
+        Type genericType = getter.genericType;
+        if (!(genericType instanceof ParameterizedType)) return false;
+        if (Map.class.isAssignableFrom(type)) {
+            ParameterizedType pt = (ParameterizedType) genericType;
+            Type valueType = pt.getActualTypeArguments()[1];
+            Class valueClass = Types.getRawType(valueType);
+            return hasNestedWriter(valueClass ,valueType);
+        } else if (Collection.class.isAssignableFrom(type) || lazySource(type) != null) {
+            ParameterizedType pt = (ParameterizedType)genericType;
+            Class valueClass = Types.getRawType(pt.getActualTypeArguments()[0]);
+            Type valueGenericType = pt.getActualTypeArguments()[0];
+            return hasNestedWriter(valueClass, valueGenericType);
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * True if the collection or map property gets a generated loop.  Nested collections and maps still go through
+     * CollectionWriter and MapWriter.
+     */
+    private boolean hasElementLoop(Getter getter) {
+        if (!(getter.genericType instanceof ParameterizedType)) return false;
+        Type[] types = ((ParameterizedType) getter.genericType).getActualTypeArguments();
+        Class element = Types.getRawType(types[Map.class.isAssignableFrom(getter.type) ? 1 : 0]);
+        return element != null && !element.isArray() && !Map.class.isAssignableFrom(element)
+                && !Collection.class.isAssignableFrom(element) && lazySource(element) == null;
+    }
+
+    /**
+     * The type if it is exactly Iterator, Stream or Iterable, whose elements are written as they are pulled, null otherwise.
+     * Classes that merely implement them, e.g. a Page&lt;T&gt; implements Iterable&lt;T&gt;, stay user objects.  Their first
+     * type argument need not be the element type either.
+     */
+    static Class lazySource(Class type) {
+        if (type == Iterator.class || type == Stream.class || type == Iterable.class) return type;
+        return null;
+    }
+
+    private boolean hasNestedWriter(Class type, Type genericType) {
+        if (isUserObject(type)) return true;
+        if (!Map.class.isAssignableFrom(type)
+                && !List.class.isAssignableFrom(type)
+                && !Set.class.isAssignableFrom(type)
+        ) {
+            return false;
+        }
+
+        if (!(genericType instanceof ParameterizedType)) return false;
+
+        if (Map.class.isAssignableFrom(type)) {
+            ParameterizedType pt = (ParameterizedType)genericType;
+            Class valueClass = Types.getRawType(pt.getActualTypeArguments()[1]);
+            Type valueGenericType = pt.getActualTypeArguments()[1];
+            return hasNestedWriter(valueClass, valueGenericType);
+        } else if (Collection.class.isAssignableFrom(type)) {
+            ParameterizedType pt = (ParameterizedType)genericType;
+            Class valueClass = Types.getRawType(pt.getActualTypeArguments()[0]);
+            Type valueGenericType = pt.getActualTypeArguments()[0];
+            return hasNestedWriter(valueClass, valueGenericType);
+        }
+        return false;
+    }
+
+
+    private String fqn() {
+        return fqn(targetType, targetGenericType);
+    }
+
+    private void findGetters(Class clz) {
+        for (Method m : clz.getMethods()) {
+            if (!isGetter(m))
+                continue;
+            Class paramType = m.getReturnType();
+            Type paramGenericType = m.getGenericReturnType();
+            String name;
+            if (m.getName().startsWith("is")) {
+                if (m.getName().length() > 3) {
+                    name = Character.toLowerCase(m.getName().charAt(2)) + m.getName().substring(3);
+                } else {
+                    name = m.getName().substring(2).toLowerCase();
+                }
+
+            } else {
+                if (m.getName().length() > 4) {
+                    name = Character.toLowerCase(m.getName().charAt(3)) + m.getName().substring(4);
+                } else {
+                    name = m.getName().substring(3).toLowerCase();
+                }
+            }
+            getters.add(new Getter(name, name, m, paramType, paramGenericType));
+        }
+        Collections.sort(getters, (getter, t1) -> getter.name.compareTo(t1.name));
+    }
+
+
+    static boolean isGetter(Method m) {
+        return !Modifier.isStatic(m.getModifiers()) && ((m.getName().startsWith("get") && m.getName().length() > "get".length()) || (m.getName().startsWith("is")) && m.getName().length() > "is".length())
+                && m.getParameterCount() == 0 && !m.getReturnType().equals(void.class)
+                && !m.getDeclaringClass().equals(Object.class);
+    }
+
+    class Getter {
+        String name;
+        String property;
+        Method method;
+        Class type;
+        Type genericType;
+
+        public Getter(String name, String property, Method method, Class type, Type genericType) {
+            this.name = name;
+            this.property = property;
+            this.method = method;
+            this.type = type;
+            this.genericType = genericType;
+        }
+    }
+}
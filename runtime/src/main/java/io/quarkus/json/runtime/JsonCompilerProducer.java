@@ -0,0 +1,17 @@
+package io.quarkus.json.runtime;
+
+import io.quarkus.json.JsonCompiler;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Produces;
+import javax.inject.Singleton;
+
+@ApplicationScoped
+public class JsonCompilerProducer {
+
+    @Produces
+    @Singleton
+    public JsonCompiler compiler() {
+        return JsonCompiler.COMPILER;
+    }
+}
@@ -0,0 +1,28 @@
+package io.quarkus.json.runtime;
+
+import io.quarkus.json.JsonCompiler;
+import io.quarkus.json.deserializer.JsonParser;
+import io.quarkus.json.generator.Deserializer;
+import io.quarkus.json.generator.Serializer;
+import io.quarkus.json.serializer.ObjectWriter;
+import io.quarkus.runtime.annotations.Recorder;
+
+import java.util.List;
+
+@Recorder
+public class JsonCompilerRecorder {
+
+    public void register(List<String> types) {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        for (String name : types) {
+            try {
+                Class type = Class.forName(name, false, cl);
+                JsonParser parser = (JsonParser) Class.forName(Deserializer.fqn(type, type), true, cl).getDeclaredConstructor().newInstance();
+                ObjectWriter writer = (ObjectWriter) Class.forName(Serializer.fqn(type, type), true, cl).getDeclaredConstructor().newInstance();
+                JsonCompiler.COMPILER.register(type, parser, writer);
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException("Failed to load generated json classes for: " + name, e);
+            }
+        }
+    }
+}
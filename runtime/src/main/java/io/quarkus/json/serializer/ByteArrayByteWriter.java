@@ -0,0 +1,101 @@
+package io.quarkus.json.serializer;
+
+import java.util.Arrays;
+
+/**
+ * Growable, unsynchronized byte array.  {@link #buffer()} and {@link #size()} give access to the bytes written
+ * without a copy.  Instances can be recycled through {@link ByteArrayByteWriterPool}.
+ */
+public class ByteArrayByteWriter implements ByteWriter {
+    static final int DEFAULT_CAPACITY = 256;
+    // some VMs reserve header words in an array
+    static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    byte[] buffer;
+    int size;
+
+    public ByteArrayByteWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ByteArrayByteWriter(int capacity) {
+        buffer = new byte[capacity];
+    }
+
+    @Override
+    public void write(int b) {
+        if (size == buffer.length) grow(size + 1);
+        buffer[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes) {
+        write(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        if (buffer.length - size < length) grow(size + length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+
+    @Override
+    public int reserve(int n) {
+        if (buffer.length - size < n) grow(size + n);
+        return size;
+    }
+
+    @Override
+    public void commit(int pos) {
+        size = pos;
+    }
+
+    private void grow(int min) {
+        if (min < 0) throw new RuntimeException("Json output too large");
+        // double so appends are amortized constant time
+        int capacity = buffer.length << 1;
+        if (capacity - min < 0) capacity = min;
+        if (capacity - MAX_CAPACITY > 0) capacity = min > MAX_CAPACITY ? min : MAX_CAPACITY;
+        buffer = Arrays.copyOf(buffer, capacity);
+    }
+
+    /**
+     * The internal array, only the first {@link #size()} bytes are valid.
+     */
+    @Override
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Grows the array to at least capacity bytes.
+     */
+    public void ensureCapacity(int capacity) {
+        if (buffer.length >= capacity) return;
+        // nothing to copy from an empty writer
+        buffer = size == 0 ? new byte[capacity] : Arrays.copyOf(buffer, capacity);
+    }
+
+    /**
+     * Discards what was written, keeps the allocated array.
+     */
+    public void reset() {
+        size = 0;
+    }
+
+    /**
+     * Copy of the bytes written.  Prefer {@link #buffer()} and {@link #size()} when a copy is not needed.
+     */
+    public byte[] getBytes() {
+        return Arrays.copyOf(buffer, size);
+    }
+}
@@ -0,0 +1,57 @@
+package io.quarkus.json.serializer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free pool of {@link ByteArrayByteWriter}s.  Writers that grew beyond the retained capacity are dropped
+ * on release so a rare huge response does not pin its memory.
+ */
+public class ByteArrayByteWriterPool {
+    public static final ByteArrayByteWriterPool POOL = new ByteArrayByteWriterPool(
+            4 * Runtime.getRuntime().availableProcessors(), 1024 * 1024);
+
+    final Queue<ByteArrayByteWriter> writers = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() is not constant time
+    final AtomicInteger pooled = new AtomicInteger();
+    final int maxPooled;
+    final int maxCapacity;
+
+    /**
+     * @param maxPooled   how many idle writers are kept
+     * @param maxCapacity writers whose buffer grew larger than this are not kept
+     */
+    public ByteArrayByteWriterPool(int maxPooled, int maxCapacity) {
+        this.maxPooled = maxPooled;
+        this.maxCapacity = maxCapacity;
+    }
+
+    public ByteArrayByteWriter acquire() {
+        ByteArrayByteWriter writer = writers.poll();
+        if (writer == null) return new ByteArrayByteWriter();
+        pooled.decrementAndGet();
+        return writer;
+    }
+
+    /**
+     * A writer with room for at least capacity bytes.
+     */
+    public ByteArrayByteWriter acquire(int capacity) {
+        ByteArrayByteWriter writer = writers.poll();
+        if (writer == null) return new ByteArrayByteWriter(Math.max(capacity, ByteArrayByteWriter.DEFAULT_CAPACITY));
+        pooled.decrementAndGet();
+        writer.ensureCapacity(capacity);
+        return writer;
+    }
+
+    public void release(ByteArrayByteWriter writer) {
+        if (writer.capacity() > maxCapacity) return;
+        writer.reset();
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        writers.offer(writer);
+    }
+}
@@ -0,0 +1,66 @@
+package io.quarkus.json.serializer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * Writes into a Netty ByteBuf, by default a pooled direct one, which grows as needed.  Requires netty-buffer,
+ * an optional dependency.  Whoever takes {@link #byteBuf()} is responsible for releasing it.
+ */
+public class ByteBufByteWriter implements ByteWriter {
+    final ByteBuf buffer;
+    // direct buffers have no array, reserved bytes are staged here and copied on commit
+    byte[] staging = new byte[64];
+
+    public ByteBufByteWriter() {
+        this(ByteBufAllocator.DEFAULT);
+    }
+
+    public ByteBufByteWriter(ByteBufAllocator allocator) {
+        this(allocator.directBuffer());
+    }
+
+    public ByteBufByteWriter(ByteBuf buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        buffer.writeByte(b);
+    }
+
+    @Override
+    public void write(byte[] bytes) {
+        buffer.writeBytes(bytes);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        buffer.writeBytes(bytes, offset, length);
+    }
+
+    @Override
+    public int reserve(int n) {
+        if (buffer.hasArray()) {
+            buffer.ensureWritable(n);
+            return buffer.arrayOffset() + buffer.writerIndex();
+        }
+        if (staging.length < n) staging = new byte[Math.max(n, staging.length << 1)];
+        return 0;
+    }
+
+    @Override
+    public byte[] buffer() {
+        return buffer.hasArray() ? buffer.array() : staging;
+    }
+
+    @Override
+    public void commit(int pos) {
+        if (buffer.hasArray()) buffer.writerIndex(pos - buffer.arrayOffset());
+        else buffer.writeBytes(staging, 0, pos);
+    }
+
+    public ByteBuf byteBuf() {
+        return buffer;
+    }
+}
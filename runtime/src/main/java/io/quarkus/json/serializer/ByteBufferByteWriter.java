@@ -0,0 +1,119 @@
+package io.quarkus.json.serializer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Writes into a chain of ByteBuffers that can be handed to a channel with a gathering write.  A new buffer is
+ * chained when the current one is full, nothing is copied.  Chunks are heap buffers by default, direct memory is
+ * costly to allocate and only freed by GC, so direct chunks are opt-in through {@link #direct(int)} or a pooling
+ * allocator.
+ */
+public class ByteBufferByteWriter implements ByteWriter {
+    static final int DEFAULT_CHUNK_SIZE = 8 * 1024;
+
+    final IntFunction<ByteBuffer> allocator;
+    final int chunkSize;
+    final List<ByteBuffer> buffers = new ArrayList<>();
+    ByteBuffer current;
+    // direct buffers have no array, reserved bytes are staged here and copied on commit
+    byte[] staging = new byte[64];
+    boolean staged;
+
+    public ByteBufferByteWriter() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    public ByteBufferByteWriter(int chunkSize) {
+        this(ByteBuffer::allocate, chunkSize);
+    }
+
+    /**
+     * Unpooled direct chunks, for output that is written to a channel many times or kept for long.
+     */
+    public static ByteBufferByteWriter direct(int chunkSize) {
+        return new ByteBufferByteWriter(ByteBuffer::allocateDirect, chunkSize);
+    }
+
+    /**
+     * @param allocator creates each chunk, e.g. from a buffer pool
+     */
+    public ByteBufferByteWriter(IntFunction<ByteBuffer> allocator, int chunkSize) {
+        this.allocator = allocator;
+        this.chunkSize = chunkSize;
+        next();
+    }
+
+    private void next() {
+        current = allocator.apply(chunkSize);
+        buffers.add(current);
+    }
+
+    @Override
+    public void write(int b) {
+        if (!current.hasRemaining()) next();
+        current.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes) {
+        write(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            if (!current.hasRemaining()) next();
+            int n = Math.min(length, current.remaining());
+            current.put(bytes, offset, n);
+            offset += n;
+            length -= n;
+        }
+    }
+
+    @Override
+    public int reserve(int n) {
+        if (current.hasArray()) {
+            if (current.remaining() < n && n <= chunkSize) next();
+            if (current.remaining() >= n) {
+                staged = false;
+                return current.arrayOffset() + current.position();
+            }
+        }
+        if (staging.length < n) staging = new byte[Math.max(n, staging.length << 1)];
+        staged = true;
+        return 0;
+    }
+
+    @Override
+    public byte[] buffer() {
+        return staged ? staging : current.array();
+    }
+
+    @Override
+    public void commit(int pos) {
+        if (staged) write(staging, 0, pos);
+        else current.position(pos - current.arrayOffset());
+    }
+
+    public int size() {
+        int size = 0;
+        for (ByteBuffer buffer : buffers) size += buffer.position();
+        return size;
+    }
+
+    /**
+     * Read views of everything written, in order.  The views share content with the chunks.
+     */
+    public ByteBuffer[] buffers() {
+        ByteBuffer[] views = new ByteBuffer[buffers.size()];
+        for (int i = 0; i < views.length; i++) {
+            ByteBuffer view = buffers.get(i).duplicate();
+            view.flip();
+            views[i] = view;
+        }
+        return views;
+    }
+}
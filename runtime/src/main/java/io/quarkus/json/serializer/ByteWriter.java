@@ -0,0 +1,31 @@
+package io.quarkus.json.serializer;
+
+public interface ByteWriter {
+    void write(int b);
+    void write(byte[] bytes);
+    void write(byte[] bytes, int offset, int length);
+
+    /**
+     * Makes room for at least n bytes.  They are written into {@link #buffer()} starting at the returned
+     * position, then {@link #commit(int)} is called with the position after the last byte written.  No other
+     * write may happen in between.  By default the bytes are staged in a per-thread array and passed to
+     * {@link #write(byte[], int, int)} on commit, implementations with their own array override all three.
+     *
+     * @return position in {@link #buffer()} to write at
+     */
+    default int reserve(int n) {
+        return StagingBuffer.reserve(n);
+    }
+
+    /**
+     * The array to write reserved bytes into, only valid until the next write.
+     */
+    default byte[] buffer() {
+        return StagingBuffer.buffer();
+    }
+
+    default void commit(int pos) {
+        write(StagingBuffer.buffer(), 0, pos);
+        StagingBuffer.release();
+    }
+}
@@ -0,0 +1,27 @@
+package io.quarkus.json.serializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Streams json to a blocking WritableByteChannel in chunks.  The channel is never closed.
+ */
+public class ChannelByteWriter extends ChunkedByteWriter {
+    final WritableByteChannel channel;
+
+    public ChannelByteWriter(WritableByteChannel channel) {
+        this(channel, DEFAULT_CHUNK_SIZE);
+    }
+
+    public ChannelByteWriter(WritableByteChannel channel, int chunkSize) {
+        super(chunkSize);
+        this.channel = channel;
+    }
+
+    @Override
+    protected void output(byte[] bytes, int offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+}
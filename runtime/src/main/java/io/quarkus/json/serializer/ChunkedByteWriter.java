@@ -0,0 +1,108 @@
+package io.quarkus.json.serializer;
+
+import java.io.IOException;
+
+/**
+ * Writes through one fixed size chunk that is handed to {@link #output(byte[], int, int)} whenever it fills up,
+ * so memory stays constant whatever the size of the document.  Nothing is synchronized, a handler blocking on
+ * the output from a virtual thread does not pin its carrier.  Call {@link #flush()} once everything was written.
+ */
+public abstract class ChunkedByteWriter implements ByteWriter {
+    static final int DEFAULT_CHUNK_SIZE = 8 * 1024;
+
+    byte[] buffer;
+    int size;
+    // a reserve larger than the chunk is staged and written through on commit
+    byte[] staging;
+    boolean staged;
+
+    protected ChunkedByteWriter(int chunkSize) {
+        buffer = new byte[chunkSize];
+    }
+
+    /**
+     * Writes the bytes to the underlying stream or channel.
+     */
+    protected abstract void output(byte[] bytes, int offset, int length) throws IOException;
+
+    @Override
+    public void write(int b) {
+        if (size == buffer.length) flushChunk();
+        buffer[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes) {
+        write(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        if (buffer.length - size < length) {
+            flushChunk();
+            if (length >= buffer.length) {
+                // no point copying through the chunk, but outputs stay chunk sized
+                while (length > 0) {
+                    int n = Math.min(length, buffer.length);
+                    outputChecked(bytes, offset, n);
+                    offset += n;
+                    length -= n;
+                }
+                return;
+            }
+        }
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+
+    @Override
+    public int reserve(int n) {
+        if (buffer.length - size < n) flushChunk();
+        if (buffer.length >= n) {
+            staged = false;
+            return size;
+        }
+        if (staging == null || staging.length < n) staging = new byte[n];
+        staged = true;
+        return 0;
+    }
+
+    @Override
+    public byte[] buffer() {
+        return staged ? staging : buffer;
+    }
+
+    @Override
+    public void commit(int pos) {
+        if (staged) write(staging, 0, pos);
+        else size = pos;
+    }
+
+    /**
+     * Continues in a new chunk, for subclasses whose {@link #output(byte[], int, int)} handed the current one on.
+     */
+    protected void newChunk() {
+        buffer = new byte[buffer.length];
+    }
+
+    /**
+     * Outputs what is left in the chunk.
+     */
+    public void flush() {
+        flushChunk();
+    }
+
+    private void flushChunk() {
+        if (size == 0) return;
+        outputChecked(buffer, 0, size);
+        size = 0;
+    }
+
+    private void outputChecked(byte[] bytes, int offset, int length) {
+        try {
+            output(bytes, offset, length);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write json", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.quarkus.json.serializer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+public class CollectionWriter implements ObjectWriter {
+    private ObjectWriter elementWriter;
+
+    public CollectionWriter(ObjectWriter elementWriter) {
+        this.elementWriter = elementWriter;
+    }
+
+    /**
+     * The collection as a List if it can be read by index, null if it has to be iterated.
+     */
+    public static List randomAccess(Collection val) {
+        return val instanceof RandomAccess && val instanceof List ? (List) val : null;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Object target) {
+        Collection list = (Collection)target;
+        writer.write(list, elementWriter);
+    }
+
+    @Override
+    public int size(Object target, ObjectWriters objectWriters) {
+        return JsonSize.size((Collection) target, elementWriter, objectWriters);
+    }
+}
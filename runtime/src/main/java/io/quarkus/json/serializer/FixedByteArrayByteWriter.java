@@ -0,0 +1,72 @@
+package io.quarkus.json.serializer;
+
+/**
+ * Writes into an array that is never replaced, e.g. one allocated from {@link ObjectWriter#size(Object)}.
+ * Reserves ask for the worst case, so near the end they are staged and only the bytes actually written are
+ * copied on commit.  Writing past the end of the array fails.
+ */
+public class FixedByteArrayByteWriter implements ByteWriter {
+    final byte[] buffer;
+    int size;
+    byte[] staging;
+    boolean staged;
+
+    public FixedByteArrayByteWriter(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        if (size == buffer.length) throw overflow(1);
+        buffer[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes) {
+        write(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        if (buffer.length - size < length) throw overflow(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+
+    @Override
+    public int reserve(int n) {
+        if (buffer.length - size >= n) {
+            staged = false;
+            return size;
+        }
+        if (staging == null || staging.length < n) staging = new byte[Math.max(n, 64)];
+        staged = true;
+        return 0;
+    }
+
+    @Override
+    public byte[] buffer() {
+        return staged ? staging : buffer;
+    }
+
+    @Override
+    public void commit(int pos) {
+        if (staged) write(staging, 0, pos);
+        else size = pos;
+    }
+
+    private RuntimeException overflow(int length) {
+        return new RuntimeException("Json output does not fit in " + buffer.length + " bytes, " + size + " written and " + length + " more");
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The array written to, only the first {@link #size()} bytes are valid.
+     */
+    public byte[] array() {
+        return buffer;
+    }
+}
@@ -0,0 +1,1275 @@
+package io.quarkus.json.serializer;
+
+import io.quarkus.json.IntChar;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * The default writer.  Final so generated serializers can bind to it with invokevirtual calls the JIT
+ * inlines, see {@link #direct(JsonWriter)}.
+ */
+public final class JsonByteWriter implements JsonWriter {
+    final ByteWriter writer;
+    final ObjectWriters objectWriters;
+
+    static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+
+    public static Charset UTF8 = Charset.forName("UTF-8");
+
+    // two digit lookup table, index is 0 - 99
+    static final byte[] DIGIT_TENS = new byte[100];
+    static final byte[] DIGIT_ONES = new byte[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (byte) ('0' + i / 10);
+            DIGIT_ONES[i] = (byte) ('0' + i % 10);
+        }
+    }
+
+    // large enough for Long.MIN_VALUE and any double
+    final byte[] scratch = new byte[32];
+
+    static final int MAX_INT_CHARS = 11;
+    static final int MAX_LONG_CHARS = 20;
+    // quotes plus the longest escape
+    static final int MAX_CHAR_CHARS = 8;
+    // strings reserve room for this many chars at a time, each takes at most 6 bytes
+    static final int STRING_CHUNK = 1024;
+
+    // keys longer than this are not cached
+    static final int MAX_CACHED_KEY = 32;
+    static final int KEY_CACHE_SIZE = 64;
+    String[] keys;
+    byte[][] encodedKeys;
+
+    // 0 if the ascii char needs no escaping, 'u' for a unicode escape, else the char that follows the backslash
+    static final byte[] ESCAPE = new byte[128];
+    static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+
+    static {
+        for (int i = 0; i < 0x20; i++) ESCAPE[i] = 'u';
+        ESCAPE['"'] = '"';
+        ESCAPE['\\'] = '\\';
+        ESCAPE['\b'] = 'b';
+        ESCAPE['\f'] = 'f';
+        ESCAPE['\n'] = 'n';
+        ESCAPE['\r'] = 'r';
+        ESCAPE['\t'] = 't';
+    }
+
+    public JsonByteWriter(ByteWriter writer) {
+        this(writer, ObjectWriters.PREGENERATED);
+    }
+
+    /**
+     * @param objectWriters writes values whose type is only known at runtime
+     */
+    public JsonByteWriter(ByteWriter writer, ObjectWriters objectWriters) {
+        this.writer = writer;
+        this.objectWriters = objectWriters;
+    }
+
+    /**
+     * @return the writer if it is a JsonByteWriter, null for any other JsonWriter implementation
+     */
+    public static JsonByteWriter direct(JsonWriter writer) {
+        return writer instanceof JsonByteWriter ? (JsonByteWriter) writer : null;
+    }
+
+    @Override
+    public void writeLCurley() {
+        this.writer.write(IntChar.INT_LCURLY);
+
+    }
+
+    @Override
+    public void writeRCurley() {
+        this.writer.write(IntChar.INT_RCURLY);
+
+    }
+
+    @Override
+    public void writeLBracket() {
+        this.writer.write(IntChar.INT_LBRACKET);
+    }
+
+    @Override
+    public void writeRBracket() {
+        this.writer.write(IntChar.INT_RBRACKET);
+    }
+
+    @Override
+    public void writeComma() {
+        this.writer.write(IntChar.INT_COMMA);
+    }
+
+    @Override
+    public void writeColon() {
+        this.writer.write(IntChar.INT_COLON);
+    }
+
+    @Override
+    public void write(short val) {
+        write((int) val);
+    }
+
+    @Override
+    public void write(int val) {
+        int pos = writer.reserve(MAX_INT_CHARS);
+        writer.commit(appendInt(val, writer.buffer(), pos));
+    }
+
+    @Override
+    public void write(long val) {
+        int pos = writer.reserve(MAX_LONG_CHARS);
+        writer.commit(appendLong(val, writer.buffer(), pos));
+    }
+
+    /**
+     * @return position after the last digit
+     */
+    static int appendInt(int val, byte[] buf, int pos) {
+        int end = pos + stringSize(val);
+        putInt(val, buf, end);
+        return end;
+    }
+
+    static int appendLong(long val, byte[] buf, int pos) {
+        int end = pos + stringSize(val);
+        putLong(val, buf, end);
+        return end;
+    }
+
+    static int stringSize(long x) {
+        int sign = 1;
+        if (x >= 0) {
+            sign = 0;
+            x = -x;
+        }
+        long p = -10;
+        for (int i = 1; i < 19; i++) {
+            if (x > p) return i + sign;
+            p = 10 * p;
+        }
+        return 19 + sign;
+    }
+
+    /**
+     * Writes the digits of val backwards into buf ending at pos.
+     *
+     * @return index of the first byte written
+     */
+    static int putInt(int val, byte[] buf, int pos) {
+        // digits are produced from the negative value so Integer.MIN_VALUE needs no special case
+        boolean negative = val < 0;
+        pos = putNegative(negative ? val : -val, buf, pos);
+        if (negative) buf[--pos] = (byte) IntChar.INT_MINUS;
+        return pos;
+    }
+
+    static int putLong(long val, byte[] buf, int pos) {
+        if (val == (int) val) return putInt((int) val, buf, pos);
+        boolean negative = val < 0;
+        long i = negative ? val : -val;
+        while (i < Integer.MIN_VALUE) {
+            long q = i / 100;
+            int r = (int) ((q * 100) - i);
+            i = q;
+            buf[--pos] = DIGIT_ONES[r];
+            buf[--pos] = DIGIT_TENS[r];
+        }
+        pos = putNegative((int) i, buf, pos);
+        if (negative) buf[--pos] = (byte) IntChar.INT_MINUS;
+        return pos;
+    }
+
+    private static int putNegative(int i, byte[] buf, int pos) {
+        while (i <= -100) {
+            int q = i / 100;
+            int r = (q * 100) - i;
+            i = q;
+            buf[--pos] = DIGIT_ONES[r];
+            buf[--pos] = DIGIT_TENS[r];
+        }
+        int r = -i;
+        buf[--pos] = DIGIT_ONES[r];
+        if (r >= 10) buf[--pos] = DIGIT_TENS[r];
+        return pos;
+    }
+
+    @Override
+    public void write(boolean val) {
+        int pos = writer.reserve(FALSE.length);
+        writer.commit(appendBoolean(val, writer.buffer(), pos));
+    }
+
+    static int appendBoolean(boolean val, byte[] buf, int pos) {
+        byte[] literal = val ? TRUE : FALSE;
+        System.arraycopy(literal, 0, buf, pos, literal.length);
+        return pos + literal.length;
+    }
+
+    @Override
+    public void write(byte val) {
+        write((int) val);
+    }
+
+    @Override
+    public void write(float val) {
+        int pos = writer.reserve(ShortestDecimal.MAX_CHARS);
+        writer.commit(ShortestDecimal.write(val, writer.buffer(), pos));
+    }
+
+    @Override
+    public void write(double val) {
+        int pos = writer.reserve(ShortestDecimal.MAX_CHARS);
+        writer.commit(ShortestDecimal.write(val, writer.buffer(), pos));
+    }
+
+    /**
+     * Same format as BigDecimal.toString(), written from the unscaled value and scale.
+     */
+    @Override
+    public void write(BigDecimal val) {
+        BigInteger unscaled = val.unscaledValue();
+        if (unscaled.bitLength() < 64) {
+            int start = putLong(unscaled.longValue(), scratch, scratch.length);
+            writeDecimal(scratch, start, scratch.length, val.scale());
+        } else {
+            byte[] digits = unscaled.toString().getBytes(UTF8);
+            writeDecimal(digits, 0, digits.length, val.scale());
+        }
+    }
+
+    private void writeDecimal(byte[] digits, int start, int end, int scale) {
+        if (digits[start] == '-') {
+            writer.write(IntChar.INT_MINUS);
+            start++;
+        }
+        int len = end - start;
+        if (scale == 0) {
+            writer.write(digits, start, len);
+            return;
+        }
+        long adjusted = -(long) scale + (len - 1);
+        if (scale > 0 && adjusted >= -6) {
+            int integer = len - scale;
+            if (integer > 0) {
+                writer.write(digits, start, integer);
+                writer.write(IntChar.INT_PERIOD);
+                writer.write(digits, start + integer, scale);
+            } else {
+                writer.write(IntChar.INT_0);
+                writer.write(IntChar.INT_PERIOD);
+                for (int i = integer; i < 0; i++) writer.write(IntChar.INT_0);
+                writer.write(digits, start, len);
+            }
+            return;
+        }
+        writer.write(digits[start]);
+        if (len > 1) {
+            writer.write(IntChar.INT_PERIOD);
+            writer.write(digits, start + 1, len - 1);
+        }
+        writer.write(IntChar.INT_E);
+        if (adjusted >= 0) writer.write(IntChar.INT_PLUS);
+        // digits may live in scratch, they are all written by now
+        write(adjusted);
+    }
+
+    @Override
+    public void write(char val) {
+        int pos = writer.reserve(MAX_CHAR_CHARS);
+        writer.commit(appendChar(val, writer.buffer(), pos));
+    }
+
+    static int appendChar(char val, byte[] buf, int pos) {
+        buf[pos++] = IntChar.INT_QUOTE;
+        pos = encode(val, buf, pos);
+        buf[pos++] = IntChar.INT_QUOTE;
+        return pos;
+    }
+
+    @Override
+    public void write(Character val) {
+        write(val.charValue());
+    }
+
+    @Override
+    public void write(Short val) {
+        write(val.intValue());
+
+    }
+
+    @Override
+    public void write(Integer val) {
+        write(val.intValue());
+
+    }
+
+    @Override
+    public void write(Long val) {
+        write(val.longValue());
+
+    }
+
+    @Override
+    public void write(Boolean val) {
+        write(val.booleanValue());
+    }
+
+    @Override
+    public void write(Byte val) {
+        write(val.intValue());
+    }
+
+    @Override
+    public void write(Float val) {
+        write(val.floatValue());
+
+    }
+
+    @Override
+    public void write(Double val) {
+        write(val.doubleValue());
+
+    }
+
+    @Override
+    public void write(String val) {
+        int len = val.length();
+        int end = Math.min(len, STRING_CHUNK);
+        int pos = writer.reserve(end * 6 + 2);
+        byte[] buf = writer.buffer();
+        buf[pos++] = IntChar.INT_QUOTE;
+        int i = 0;
+        while (i < len) {
+            if (i >= end) {
+                writer.commit(pos);
+                end = Math.min(len, i + STRING_CHUNK);
+                pos = writer.reserve((end - i) * 6 + 1);
+                buf = writer.buffer();
+            }
+            // run of ascii that needs no escaping, one byte per char
+            char c = 0;
+            while (i < end && (c = val.charAt(i)) < 128 && ESCAPE[c] == 0) {
+                buf[pos++] = (byte) c;
+                i++;
+            }
+            if (i == end) continue;
+            if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(val.charAt(i + 1))) {
+                // may run one char past the chunk, the pair still fits in the 12 bytes reserved for two chars
+                int cp = Character.toCodePoint(c, val.charAt(++i));
+                buf[pos++] = (byte) (0xF0 | cp >> 18);
+                buf[pos++] = (byte) (0x80 | (cp >> 12 & 0x3F));
+                buf[pos++] = (byte) (0x80 | (cp >> 6 & 0x3F));
+                buf[pos++] = (byte) (0x80 | (cp & 0x3F));
+            } else {
+                pos = encode(c, buf, pos);
+            }
+            i++;
+        }
+        buf[pos++] = IntChar.INT_QUOTE;
+        writer.commit(pos);
+    }
+
+    /**
+     * Escapes or UTF-8 encodes a single char.  A surrogate that is not part of a pair is escaped as is.
+     */
+    static int encode(char c, byte[] buf, int pos) {
+        if (c < 128) {
+            byte escape = ESCAPE[c];
+            if (escape == 0) {
+                buf[pos++] = (byte) c;
+            } else if (escape == 'u') {
+                pos = unicodeEscape(c, buf, pos);
+            } else {
+                buf[pos++] = '\\';
+                buf[pos++] = escape;
+            }
+        } else if (c < 0x800) {
+            buf[pos++] = (byte) (0xC0 | c >> 6);
+            buf[pos++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isSurrogate(c)) {
+            pos = unicodeEscape(c, buf, pos);
+        } else {
+            buf[pos++] = (byte) (0xE0 | c >> 12);
+            buf[pos++] = (byte) (0x80 | (c >> 6 & 0x3F));
+            buf[pos++] = (byte) (0x80 | (c & 0x3F));
+        }
+        return pos;
+    }
+
+    private static int unicodeEscape(char c, byte[] buf, int pos) {
+        buf[pos++] = '\\';
+        buf[pos++] = 'u';
+        buf[pos++] = HEX[c >> 12];
+        buf[pos++] = HEX[c >> 8 & 0xF];
+        buf[pos++] = HEX[c >> 4 & 0xF];
+        buf[pos++] = HEX[c & 0xF];
+        return pos;
+    }
+
+    @Override
+    public void writeObject(Object obj) {
+        objectWriters.of(obj.getClass()).write(this, obj);
+    }
+
+    @Override
+    public void write(Map val) {
+        writer.write(IntChar.INT_LCURLY);
+        Set<Map.Entry<Object, Object>> set = val.entrySet();
+        boolean first = true;
+        for (Map.Entry<Object, Object> entry : set) {
+            if (first) first = false;
+            else writer.write(IntChar.INT_COMMA);
+            writeKey(entry.getKey());
+            writer.write(IntChar.INT_COLON);
+            writeObject(entry.getValue());
+        }
+        writer.write(IntChar.INT_RCURLY);
+    }
+
+    @Override
+    public void write(Map val, ObjectWriter valueWriter) {
+        writer.write(IntChar.INT_LCURLY);
+        Set<Map.Entry<Object, Object>> set = val.entrySet();
+        boolean first = true;
+        for (Map.Entry<Object, Object> entry : set) {
+            if (first) first = false;
+            else writer.write(IntChar.INT_COMMA);
+            writeKey(entry.getKey());
+            writer.write(IntChar.INT_COLON);
+            valueWriter.write(this, entry.getValue());
+        }
+        writer.write(IntChar.INT_RCURLY);
+    }
+
+    @Override
+    public void write(Map val, KeyWriter keyWriter, ObjectWriter valueWriter) {
+        writer.write(IntChar.INT_LCURLY);
+        Set<Map.Entry<Object, Object>> set = val.entrySet();
+        boolean first = true;
+        for (Map.Entry<Object, Object> entry : set) {
+            if (first) first = false;
+            else writer.write(IntChar.INT_COMMA);
+            keyWriter.write(this, entry.getKey());
+            writer.write(IntChar.INT_COLON);
+            if (valueWriter == null) writeObject(entry.getValue());
+            else valueWriter.write(this, entry.getValue());
+        }
+        writer.write(IntChar.INT_RCURLY);
+    }
+
+    @Override
+    public void write(Collection val) {
+        writer.write(IntChar.INT_LBRACKET);
+        boolean first = true;
+        for (Object item : val) {
+            if (first) first = false;
+            else writer.write(IntChar.INT_COMMA);
+            writeObject(item);
+        }
+        writer.write(IntChar.INT_RBRACKET);
+    }
+
+    @Override
+    public void write(Collection val, ObjectWriter elementWriter) {
+        writer.write(IntChar.INT_LBRACKET);
+        boolean first = true;
+        for (Object item : val) {
+            if (first) first = false;
+            else writer.write(IntChar.INT_COMMA);
+            elementWriter.write(this, item);
+        }
+        writer.write(IntChar.INT_RBRACKET);
+    }
+
+
+
+    @Override
+    public void write(Iterator val) {
+        writer.write(IntChar.INT_LBRACKET);
+        boolean first = true;
+        while (val.hasNext()) {
+            if (first) first = false;
+            else writer.write(IntChar.INT_COMMA);
+            writeObject(val.next());
+        }
+        writer.write(IntChar.INT_RBRACKET);
+    }
+
+    @Override
+    public void write(Iterator val, ObjectWriter elementWriter) {
+        writer.write(IntChar.INT_LBRACKET);
+        boolean first = true;
+        while (val.hasNext()) {
+            if (first) first = false;
+            else writer.write(IntChar.INT_COMMA);
+            elementWriter.write(this, val.next());
+        }
+        writer.write(IntChar.INT_RBRACKET);
+    }
+
+    @Override
+    public void write(Iterable val) {
+        write(val.iterator());
+    }
+
+    @Override
+    public void write(Iterable val, ObjectWriter elementWriter) {
+        write(val.iterator(), elementWriter);
+    }
+
+    @Override
+    public void write(Stream val) {
+        try (Stream stream = val) {
+            write(stream.iterator());
+        }
+    }
+
+    @Override
+    public void write(Stream val, ObjectWriter elementWriter) {
+        try (Stream stream = val) {
+            write(stream.iterator(), elementWriter);
+        }
+    }
+
+    @Override
+    public void writeProperty(String name, char val, boolean comma) {
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+    }
+
+    @Override
+    public void writeProperty(String name, short val, boolean comma) {
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+    }
+
+    @Override
+    public void writeProperty(String name, int val, boolean comma) {
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+    }
+
+    @Override
+    public void writeProperty(String name, long val, boolean comma) {
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+    }
+
+    @Override
+    public void writeProperty(String name, boolean val, boolean comma) {
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+    }
+
+    @Override
+    public void writeProperty(String name, byte val, boolean comma) {
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+    }
+
+    @Override
+    public void writeProperty(String name, float val, boolean comma) {
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+    }
+
+    @Override
+    public void writeProperty(String name, double val, boolean comma) {
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+    }
+
+    @Override
+    public boolean writeProperty(String name, Character val, boolean comma) {
+        if (val == null) return comma;
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(String name, Short val, boolean comma) {
+        if (val == null) return comma;
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(String name, Integer val, boolean comma) {
+        if (val == null) return comma;
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(String name, Long val, boolean comma) {
+        if (val == null) return comma;
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(String name, Boolean val, boolean comma) {
+        if (val == null) return comma;
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(String name, Byte val, boolean comma) {
+        if (val == null) return comma;
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(String name, Float val, boolean comma) {
+        if (val == null) return comma;
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(String name, Double val, boolean comma) {
+        if (val == null) return comma;
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(String name, String val, boolean comma) {
+        if (val == null) return comma;
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(String name, BigDecimal val, boolean comma) {
+        if (val == null) return comma;
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeObjectProperty(String name, Object val, ObjectWriter writer, boolean comma) {
+        if (val == null) return comma;
+        if (comma) this.writer.write(IntChar.INT_COMMA);
+        write(name);
+        this.writer.write(IntChar.INT_COLON);
+        writer.write(this, val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(String name, Map val, boolean comma) {
+        if (val == null) return comma;
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public void writeKey(Object key) {
+        if (key instanceof String) {
+            writeKey((String) key);
+        } else if (key instanceof Character) {
+            writeKey(((Character) key).charValue());
+        } else if (key instanceof Integer || key instanceof Short || key instanceof Byte) {
+            writeKey(((Number) key).intValue());
+        } else if (key instanceof Long) {
+            writeKey(((Long) key).longValue());
+        } else if (key instanceof Boolean) {
+            writeKey(((Boolean) key).booleanValue());
+        } else if (key instanceof Float) {
+            writeKey(((Float) key).floatValue());
+        } else if (key instanceof Double) {
+            writeKey(((Double) key).doubleValue());
+        } else {
+            write(key.toString());
+        }
+    }
+
+    /**
+     * Short keys seen twice are kept encoded in a small direct mapped cache, so keys that recur across
+     * the maps of one document are a single bulk copy.
+     */
+    @Override
+    public void writeKey(String key) {
+        if (key.length() > MAX_CACHED_KEY) {
+            write(key);
+            return;
+        }
+        if (keys == null) {
+            keys = new String[KEY_CACHE_SIZE];
+            encodedKeys = new byte[KEY_CACHE_SIZE][];
+        }
+        int i = key.hashCode() & (KEY_CACHE_SIZE - 1);
+        byte[] encoded = encodedKeys[i];
+        if (encoded != null && key.equals(keys[i])) {
+            writer.write(encoded);
+            return;
+        }
+        int pos = writer.reserve(key.length() * 6 + 2);
+        byte[] buf = writer.buffer();
+        int end = appendString(key, buf, pos);
+        // only remember the bytes once the key was seen before, unique keys cost no allocation
+        if (key.equals(keys[i])) {
+            encodedKeys[i] = Arrays.copyOfRange(buf, pos, end);
+        } else {
+            keys[i] = key;
+            encodedKeys[i] = null;
+        }
+        writer.commit(end);
+    }
+
+    /**
+     * Quotes and escapes a string, buf must have room for 6 bytes per char plus the quotes.
+     */
+    static int appendString(String val, byte[] buf, int pos) {
+        buf[pos++] = IntChar.INT_QUOTE;
+        int len = val.length();
+        for (int i = 0; i < len; i++) {
+            char c = val.charAt(i);
+            if (c < 128 && ESCAPE[c] == 0) {
+                buf[pos++] = (byte) c;
+            } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(val.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, val.charAt(++i));
+                buf[pos++] = (byte) (0xF0 | cp >> 18);
+                buf[pos++] = (byte) (0x80 | (cp >> 12 & 0x3F));
+                buf[pos++] = (byte) (0x80 | (cp >> 6 & 0x3F));
+                buf[pos++] = (byte) (0x80 | (cp & 0x3F));
+            } else {
+                pos = encode(c, buf, pos);
+            }
+        }
+        buf[pos++] = IntChar.INT_QUOTE;
+        return pos;
+    }
+
+    @Override
+    public void writeKey(char key) {
+        write(key);
+    }
+
+    @Override
+    public void writeKey(int key) {
+        int pos = writer.reserve(MAX_INT_CHARS + 2);
+        byte[] buf = writer.buffer();
+        buf[pos++] = IntChar.INT_QUOTE;
+        pos = appendInt(key, buf, pos);
+        buf[pos++] = IntChar.INT_QUOTE;
+        writer.commit(pos);
+    }
+
+    @Override
+    public void writeKey(long key) {
+        int pos = writer.reserve(MAX_LONG_CHARS + 2);
+        byte[] buf = writer.buffer();
+        buf[pos++] = IntChar.INT_QUOTE;
+        pos = appendLong(key, buf, pos);
+        buf[pos++] = IntChar.INT_QUOTE;
+        writer.commit(pos);
+    }
+
+    @Override
+    public void writeKey(boolean key) {
+        int pos = writer.reserve(FALSE.length + 2);
+        byte[] buf = writer.buffer();
+        buf[pos++] = IntChar.INT_QUOTE;
+        pos = appendBoolean(key, buf, pos);
+        buf[pos++] = IntChar.INT_QUOTE;
+        writer.commit(pos);
+    }
+
+    @Override
+    public void writeKey(float key) {
+        int pos = writer.reserve(ShortestDecimal.MAX_CHARS + 2);
+        byte[] buf = writer.buffer();
+        buf[pos++] = IntChar.INT_QUOTE;
+        pos = ShortestDecimal.write(key, buf, pos);
+        buf[pos++] = IntChar.INT_QUOTE;
+        writer.commit(pos);
+    }
+
+    @Override
+    public void writeKey(double key) {
+        int pos = writer.reserve(ShortestDecimal.MAX_CHARS + 2);
+        byte[] buf = writer.buffer();
+        buf[pos++] = IntChar.INT_QUOTE;
+        pos = ShortestDecimal.write(key, buf, pos);
+        buf[pos++] = IntChar.INT_QUOTE;
+        writer.commit(pos);
+    }
+
+    @Override
+    public boolean writeObjectProperty(String name, Object val, boolean comma) {
+        if (val == null) return comma;
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        writeObject(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(String name, Collection val, boolean comma) {
+        if (val == null) return comma;
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        try {
+            write(val);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Failed to write collection property: " + name, e);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(String name, Map val, ObjectWriter objectWriter, boolean comma) {
+        if (val == null) return comma;
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        writer.write(IntChar.INT_LCURLY);
+        Set<Map.Entry<Object, Object>> set = val.entrySet();
+        boolean first = true;
+        for (Map.Entry<Object, Object> entry : set) {
+            if (first) first = false;
+            else writer.write(IntChar.INT_COMMA);
+            writeKey(entry.getKey());
+            writer.write(IntChar.INT_COLON);
+            try {
+                objectWriter.write(this, entry.getValue());
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Failed to write map property: " + name, e);
+            }
+        }
+        writer.write(IntChar.INT_RCURLY);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(String name, Collection val, ObjectWriter objectWriter, boolean comma) {
+        if (val == null) return comma;
+        if (comma) writer.write(IntChar.INT_COMMA);
+        write(name);
+        writer.write(IntChar.INT_COLON);
+        writer.write(IntChar.INT_LBRACKET);
+        boolean first = true;
+        for (Object item : val) {
+            if (first) first = false;
+            else writer.write(IntChar.INT_COMMA);
+            objectWriter.write(this, item);
+        }
+        writer.write(IntChar.INT_RBRACKET);
+        return true;
+    }
+
+    /**
+     * Most bytes a primitive value of the type can take, -1 if it is not a primitive.
+     */
+    public static int maxChars(Class type) {
+        if (type == int.class || type == short.class || type == byte.class) return MAX_INT_CHARS;
+        if (type == long.class) return MAX_LONG_CHARS;
+        if (type == boolean.class) return FALSE.length;
+        if (type == char.class) return MAX_CHAR_CHARS;
+        if (type == float.class || type == double.class) return ShortestDecimal.MAX_CHARS;
+        return -1;
+    }
+
+    /**
+     * Encodes a property name as {@code "name":}, prefixed with a comma if requested, so generated
+     * serializers can write it with a single bulk copy.
+     */
+    public static byte[] encodeName(String name, boolean comma) {
+        return ((comma ? "," : "") + '"' + name + "\":").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void reserve(int n) {
+        writer.commit(writer.reserve(n));
+    }
+
+    /**
+     * Reserves n bytes that the caller fills with the static append methods and then passes to {@link #commit(int)}.
+     * Generated serializers write an object with only primitive properties into one such region.
+     *
+     * @return position in {@link #buffer()} to write at
+     */
+    public int reserveRegion(int n) {
+        return writer.reserve(n);
+    }
+
+    public byte[] buffer() {
+        return writer.buffer();
+    }
+
+    public void commit(int pos) {
+        writer.commit(pos);
+    }
+
+    public static int appendLCurley(byte[] buf, int pos) {
+        buf[pos] = IntChar.INT_LCURLY;
+        return pos + 1;
+    }
+
+    public static int appendRCurley(byte[] buf, int pos) {
+        buf[pos] = IntChar.INT_RCURLY;
+        return pos + 1;
+    }
+
+    /**
+     * Appends a pre-encoded name, already prefixed with its comma if it needs one, and the value.
+     *
+     * @return position after the value
+     */
+    public static int appendProperty(byte[] name, int val, byte[] buf, int pos) {
+        return appendInt(val, buf, appendName(name, buf, pos));
+    }
+
+    public static int appendProperty(byte[] name, short val, byte[] buf, int pos) {
+        return appendInt(val, buf, appendName(name, buf, pos));
+    }
+
+    public static int appendProperty(byte[] name, byte val, byte[] buf, int pos) {
+        return appendInt(val, buf, appendName(name, buf, pos));
+    }
+
+    public static int appendProperty(byte[] name, long val, byte[] buf, int pos) {
+        return appendLong(val, buf, appendName(name, buf, pos));
+    }
+
+    public static int appendProperty(byte[] name, boolean val, byte[] buf, int pos) {
+        return appendBoolean(val, buf, appendName(name, buf, pos));
+    }
+
+    public static int appendProperty(byte[] name, char val, byte[] buf, int pos) {
+        return appendChar(val, buf, appendName(name, buf, pos));
+    }
+
+    public static int appendProperty(byte[] name, float val, byte[] buf, int pos) {
+        return ShortestDecimal.write(val, buf, appendName(name, buf, pos));
+    }
+
+    public static int appendProperty(byte[] name, double val, byte[] buf, int pos) {
+        return ShortestDecimal.write(val, buf, appendName(name, buf, pos));
+    }
+
+    private static int appendName(byte[] name, byte[] buf, int pos) {
+        System.arraycopy(name, 0, buf, pos, name.length);
+        return pos + name.length;
+    }
+
+    @Override
+    public void writeName(byte[] name, boolean comma) {
+        writer.commit(reserveName(name, comma, 0));
+    }
+
+    /**
+     * Reserves room for the name and a value of at most valueSize bytes in one go and writes the name.
+     *
+     * @return position in writer.buffer() to write the value at
+     */
+    private int reserveName(byte[] name, boolean comma, int valueSize) {
+        int pos = writer.reserve(name.length + 1 + valueSize);
+        byte[] buf = writer.buffer();
+        if (comma) buf[pos++] = IntChar.INT_COMMA;
+        System.arraycopy(name, 0, buf, pos, name.length);
+        return pos + name.length;
+    }
+
+    @Override
+    public void writeProperty(byte[] name, char val, boolean comma) {
+        int pos = reserveName(name, comma, MAX_CHAR_CHARS);
+        writer.commit(appendChar(val, writer.buffer(), pos));
+    }
+
+    @Override
+    public void writeProperty(byte[] name, short val, boolean comma) {
+        int pos = reserveName(name, comma, MAX_INT_CHARS);
+        writer.commit(appendInt(val, writer.buffer(), pos));
+    }
+
+    @Override
+    public void writeProperty(byte[] name, int val, boolean comma) {
+        int pos = reserveName(name, comma, MAX_INT_CHARS);
+        writer.commit(appendInt(val, writer.buffer(), pos));
+    }
+
+    @Override
+    public void writeProperty(byte[] name, long val, boolean comma) {
+        int pos = reserveName(name, comma, MAX_LONG_CHARS);
+        writer.commit(appendLong(val, writer.buffer(), pos));
+    }
+
+    @Override
+    public void writeProperty(byte[] name, boolean val, boolean comma) {
+        int pos = reserveName(name, comma, FALSE.length);
+        writer.commit(appendBoolean(val, writer.buffer(), pos));
+    }
+
+    @Override
+    public void writeProperty(byte[] name, byte val, boolean comma) {
+        int pos = reserveName(name, comma, MAX_INT_CHARS);
+        writer.commit(appendInt(val, writer.buffer(), pos));
+    }
+
+    @Override
+    public void writeProperty(byte[] name, float val, boolean comma) {
+        int pos = reserveName(name, comma, ShortestDecimal.MAX_CHARS);
+        writer.commit(ShortestDecimal.write(val, writer.buffer(), pos));
+    }
+
+    @Override
+    public void writeProperty(byte[] name, double val, boolean comma) {
+        int pos = reserveName(name, comma, ShortestDecimal.MAX_CHARS);
+        writer.commit(ShortestDecimal.write(val, writer.buffer(), pos));
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Character val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Short val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Integer val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Long val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Boolean val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Byte val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Float val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Double val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, String val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, BigDecimal val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeObjectProperty(byte[] name, Object val, ObjectWriter objectWriter, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        objectWriter.write(this, val);
+        return true;
+    }
+
+    @Override
+    public boolean writeObjectProperty(byte[] name, Object val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        writeObject(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Map val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Collection val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Map val, ObjectWriter objectWriter, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val, objectWriter);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Collection val, ObjectWriter objectWriter, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val, objectWriter);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Iterator val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Iterable val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Stream val, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Iterator val, ObjectWriter objectWriter, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val, objectWriter);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Iterable val, ObjectWriter objectWriter, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val, objectWriter);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Stream val, ObjectWriter objectWriter, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val, objectWriter);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Map val, KeyWriter keyWriter, ObjectWriter valueWriter, boolean comma) {
+        if (val == null) return comma;
+        writeName(name, comma);
+        write(val, keyWriter, valueWriter);
+        return true;
+    }
+}
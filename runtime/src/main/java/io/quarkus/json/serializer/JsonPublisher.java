@@ -0,0 +1,135 @@
+package io.quarkus.json.serializer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Publishes the json of an object as ByteBuffer chunks, one serialization per subscriber.  Serialization
+ * runs as a producer task on the given executor and parks its thread whenever the subscriber has no outstanding
+ * demand, so at most the chunk being filled plus the chunks the subscriber requested are in memory, whatever
+ * the document size.  Every signal after onSubscribe comes from the producer, so signals are serial.
+ *
+ * A subscriber that stops requesting without cancelling keeps its producer thread parked.  Size the executor
+ * for the number of concurrently slow subscribers, or on Java 21+ pass a virtual thread per task executor.
+ */
+public class JsonPublisher implements Flow.Publisher<ByteBuffer> {
+    static final int DEFAULT_CHUNK_SIZE = 8 * 1024;
+
+    // unwinds the writer once the subscription was cancelled or failed
+    static final RuntimeException CANCELLED = new RuntimeException("Subscription cancelled", null, false, false) {
+    };
+
+    final ObjectWriter writer;
+    final Object target;
+    final ObjectWriters objectWriters;
+    final Executor executor;
+    final int chunkSize;
+
+    public JsonPublisher(ObjectWriter writer, Object target, Executor executor) {
+        this(writer, target, ObjectWriters.PREGENERATED, executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    public JsonPublisher(ObjectWriter writer, Object target, ObjectWriters objectWriters, Executor executor) {
+        this(writer, target, objectWriters, executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    public JsonPublisher(ObjectWriter writer, Object target, Executor executor, int chunkSize) {
+        this(writer, target, ObjectWriters.PREGENERATED, executor, chunkSize);
+    }
+
+    /**
+     * @param executor runs one producer task per subscription, each blocks its thread while there is no demand
+     */
+    public JsonPublisher(ObjectWriter writer, Object target, ObjectWriters objectWriters, Executor executor, int chunkSize) {
+        this.writer = writer;
+        this.target = target;
+        this.objectWriters = objectWriters;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        Producer producer = new Producer(subscriber);
+        subscriber.onSubscribe(producer);
+        try {
+            executor.execute(producer);
+        } catch (RuntimeException e) {
+            // the producer never runs, nothing else can signal the subscriber
+            subscriber.onError(e);
+        }
+    }
+
+    class Producer extends ChunkedByteWriter implements Flow.Subscription, Runnable {
+        final Flow.Subscriber<? super ByteBuffer> subscriber;
+        final AtomicLong demand = new AtomicLong();
+        // a bad request, reported by the producer thread
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        volatile boolean cancelled;
+        volatile Thread thread;
+
+        Producer(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            super(chunkSize);
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (cancelled) return;
+            if (n <= 0) {
+                failure.compareAndSet(null, new IllegalArgumentException("Requested " + n + " chunks, must be positive"));
+            } else {
+                demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            }
+            LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+            Throwable error = null;
+            try {
+                writer.write(new JsonByteWriter(this, objectWriters), target);
+                flush();
+            } catch (Throwable e) {
+                // errors too, e.g. a StackOverflowError on a cyclic graph must still terminate the subscriber
+                error = e;
+            } finally {
+                thread = null;
+            }
+            Throwable failed = failure.get();
+            if (cancelled) return;
+            if (failed != null) subscriber.onError(failed);
+            else if (error != null) subscriber.onError(error);
+            else subscriber.onComplete();
+        }
+
+        @Override
+        protected void output(byte[] bytes, int offset, int length) {
+            while (demand.get() == 0 && !cancelled && failure.get() == null) LockSupport.park(this);
+            if (cancelled || failure.get() != null) throw CANCELLED;
+            demand.decrementAndGet();
+            ByteBuffer chunk;
+            if (bytes == buffer) {
+                // the subscriber owns the filled chunk, writing continues in a fresh one
+                chunk = ByteBuffer.wrap(bytes, offset, length);
+                newChunk();
+            } else {
+                // a slice of a large write, the caller may reuse its array
+                chunk = ByteBuffer.wrap(Arrays.copyOfRange(bytes, offset, offset + length));
+            }
+            subscriber.onNext(chunk);
+        }
+    }
+}
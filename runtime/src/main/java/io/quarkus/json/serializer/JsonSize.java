@@ -0,0 +1,364 @@
+package io.quarkus.json.serializer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Exact number of bytes {@link JsonByteWriter} produces for a value, computed without writing anything.
+ * Generated serializers use the property methods to implement {@link ObjectWriter#size(Object)}.
+ */
+public final class JsonSize {
+    /**
+     * Size of {@code {}}, the running size of an object starts there.  Every property but the first adds a comma.
+     */
+    public static final int EMPTY_OBJECT = 2;
+
+    // shortest decimal digits have to be produced to be counted
+    static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[ShortestDecimal.MAX_CHARS]);
+
+    private JsonSize() {
+    }
+
+    public static int size(int val) {
+        return JsonByteWriter.stringSize(val);
+    }
+
+    public static int size(long val) {
+        return JsonByteWriter.stringSize(val);
+    }
+
+    public static int size(boolean val) {
+        return val ? JsonByteWriter.TRUE.length : JsonByteWriter.FALSE.length;
+    }
+
+    public static int size(char val) {
+        return 2 + encodedSize(val);
+    }
+
+    public static int size(float val) {
+        return ShortestDecimal.write(val, SCRATCH.get(), 0);
+    }
+
+    public static int size(double val) {
+        return ShortestDecimal.write(val, SCRATCH.get(), 0);
+    }
+
+    public static int size(String val) {
+        int size = 2;
+        int len = val.length();
+        for (int i = 0; i < len; i++) {
+            char c = val.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(val.charAt(i + 1))) {
+                size += 4;
+                i++;
+            } else {
+                size += encodedSize(c);
+            }
+        }
+        return size;
+    }
+
+    static int encodedSize(char c) {
+        if (c < 128) {
+            byte escape = JsonByteWriter.ESCAPE[c];
+            return escape == 0 ? 1 : escape == 'u' ? 6 : 2;
+        }
+        if (c < 0x800) return 2;
+        return Character.isSurrogate(c) ? 6 : 3;
+    }
+
+    public static int size(BigDecimal val) {
+        BigInteger unscaled = val.unscaledValue();
+        boolean negative = unscaled.signum() < 0;
+        int len = unscaled.bitLength() < 64 ? JsonByteWriter.stringSize(unscaled.longValue()) : unscaled.toString().length();
+        if (negative) len--;
+        int size = negative ? 1 : 0;
+        int scale = val.scale();
+        if (scale == 0) return size + len;
+        long adjusted = -(long) scale + (len - 1);
+        if (scale > 0 && adjusted >= -6) {
+            int integer = len - scale;
+            return integer > 0 ? size + len + 1 : size + 2 - integer + len;
+        }
+        // d.dddE+n
+        size += len > 1 ? len + 1 : 1;
+        return size + 1 + (adjusted >= 0 ? 1 : 0) + JsonByteWriter.stringSize(adjusted);
+    }
+
+    /**
+     * Size of a value written through {@link JsonByteWriter#writeObject(Object)} of a JsonByteWriter created with
+     * objectWriters.
+     */
+    public static int sizeObject(Object obj, ObjectWriters objectWriters) {
+        return objectWriters.of(obj.getClass()).size(obj, objectWriters);
+    }
+
+    /**
+     * Size of a map key, keys are always written as json strings.
+     */
+    public static int sizeKey(Object key) {
+        if (key instanceof String) return size((String) key);
+        if (key instanceof Character) return size(((Character) key).charValue());
+        if (key instanceof Short || key instanceof Integer || key instanceof Long || key instanceof Byte) {
+            return 2 + size(((Number) key).longValue());
+        }
+        if (key instanceof Boolean) return 2 + size(((Boolean) key).booleanValue());
+        if (key instanceof Float) return 2 + size(((Float) key).floatValue());
+        if (key instanceof Double) return 2 + size(((Double) key).doubleValue());
+        return size(key.toString());
+    }
+
+    public static int size(Map val, ObjectWriters objectWriters) {
+        int size = 2;
+        Set<Map.Entry<Object, Object>> set = val.entrySet();
+        for (Map.Entry<Object, Object> entry : set) {
+            size += sizeKey(entry.getKey()) + 1 + sizeObject(entry.getValue(), objectWriters);
+        }
+        return val.isEmpty() ? size : size + val.size() - 1;
+    }
+
+    public static int size(Map val, ObjectWriter valueWriter, ObjectWriters objectWriters) {
+        int size = 2;
+        Set<Map.Entry<Object, Object>> set = val.entrySet();
+        for (Map.Entry<Object, Object> entry : set) {
+            size += sizeKey(entry.getKey()) + 1 + valueWriter.size(entry.getValue(), objectWriters);
+        }
+        return val.isEmpty() ? size : size + val.size() - 1;
+    }
+
+    public static int size(Map val, KeyWriter keyWriter, ObjectWriter valueWriter, ObjectWriters objectWriters) {
+        int size = 2;
+        Set<Map.Entry<Object, Object>> set = val.entrySet();
+        for (Map.Entry<Object, Object> entry : set) {
+            Object value = entry.getValue();
+            size += keyWriter.size(entry.getKey()) + 1 + (valueWriter == null ? sizeObject(value, objectWriters) : valueWriter.size(value, objectWriters));
+        }
+        return val.isEmpty() ? size : size + val.size() - 1;
+    }
+
+    public static int size(Collection val, ObjectWriters objectWriters) {
+        int size = 2;
+        for (Object item : val) size += sizeObject(item, objectWriters);
+        return val.isEmpty() ? size : size + val.size() - 1;
+    }
+
+    public static int size(Collection val, ObjectWriter elementWriter, ObjectWriters objectWriters) {
+        int size = 2;
+        for (Object item : val) size += elementWriter.size(item, objectWriters);
+        return val.isEmpty() ? size : size + val.size() - 1;
+    }
+
+    /**
+     * An Iterable is iterated once for its size and again when written.
+     */
+    public static int size(Iterable val, ObjectWriters objectWriters) {
+        int size = 2;
+        int count = 0;
+        for (Object item : val) {
+            size += sizeObject(item, objectWriters);
+            count++;
+        }
+        return count == 0 ? size : size + count - 1;
+    }
+
+    public static int size(Iterable val, ObjectWriter elementWriter, ObjectWriters objectWriters) {
+        int size = 2;
+        int count = 0;
+        for (Object item : val) {
+            size += elementWriter.size(item, objectWriters);
+            count++;
+        }
+        return count == 0 ? size : size + count - 1;
+    }
+
+    // counting would consume the elements that are to be written
+    static RuntimeException oneShot(Object val) {
+        return new RuntimeException("Size of a one-shot source is unknown until it is written: " + val.getClass().getName());
+    }
+
+    // running object size plus the property, nameLength is the length of "name": without the comma
+
+    private static int name(int size, int nameLength) {
+        return size > EMPTY_OBJECT ? size + 1 + nameLength : size + nameLength;
+    }
+
+    public static int property(int size, int nameLength, char val) {
+        return name(size, nameLength) + size(val);
+    }
+
+    public static int property(int size, int nameLength, short val) {
+        return name(size, nameLength) + size(val);
+    }
+
+    public static int property(int size, int nameLength, int val) {
+        return name(size, nameLength) + size(val);
+    }
+
+    public static int property(int size, int nameLength, long val) {
+        return name(size, nameLength) + size(val);
+    }
+
+    public static int property(int size, int nameLength, boolean val) {
+        return name(size, nameLength) + size(val);
+    }
+
+    public static int property(int size, int nameLength, byte val) {
+        return name(size, nameLength) + size(val);
+    }
+
+    public static int property(int size, int nameLength, float val) {
+        return name(size, nameLength) + size(val);
+    }
+
+    public static int property(int size, int nameLength, double val) {
+        return name(size, nameLength) + size(val);
+    }
+
+    public static int property(int size, int nameLength, Character val) {
+        return val == null ? size : name(size, nameLength) + size(val.charValue());
+    }
+
+    public static int property(int size, int nameLength, Short val) {
+        return val == null ? size : name(size, nameLength) + size(val.intValue());
+    }
+
+    public static int property(int size, int nameLength, Integer val) {
+        return val == null ? size : name(size, nameLength) + size(val.intValue());
+    }
+
+    public static int property(int size, int nameLength, Long val) {
+        return val == null ? size : name(size, nameLength) + size(val.longValue());
+    }
+
+    public static int property(int size, int nameLength, Boolean val) {
+        return val == null ? size : name(size, nameLength) + size(val.booleanValue());
+    }
+
+    public static int property(int size, int nameLength, Byte val) {
+        return val == null ? size : name(size, nameLength) + size(val.intValue());
+    }
+
+    public static int property(int size, int nameLength, Float val) {
+        return val == null ? size : name(size, nameLength) + size(val.floatValue());
+    }
+
+    public static int property(int size, int nameLength, Double val) {
+        return val == null ? size : name(size, nameLength) + size(val.doubleValue());
+    }
+
+    public static int property(int size, int nameLength, String val) {
+        return val == null ? size : name(size, nameLength) + size(val);
+    }
+
+    public static int property(int size, int nameLength, BigDecimal val) {
+        return val == null ? size : name(size, nameLength) + size(val);
+    }
+
+    // properties that may contain untyped values take the ObjectWriters the value is written with
+
+    public static int property(int size, int nameLength, Map val, ObjectWriters objectWriters) {
+        return val == null ? size : name(size, nameLength) + size(val, objectWriters);
+    }
+
+    public static int property(int size, int nameLength, Collection val, ObjectWriters objectWriters) {
+        return val == null ? size : name(size, nameLength) + size(val, objectWriters);
+    }
+
+    public static int property(int size, int nameLength, Map val, ObjectWriter valueWriter, ObjectWriters objectWriters) {
+        return val == null ? size : name(size, nameLength) + size(val, valueWriter, objectWriters);
+    }
+
+    public static int property(int size, int nameLength, Map val, KeyWriter keyWriter, ObjectWriter valueWriter, ObjectWriters objectWriters) {
+        return val == null ? size : name(size, nameLength) + size(val, keyWriter, valueWriter, objectWriters);
+    }
+
+    public static int property(int size, int nameLength, Collection val, ObjectWriter elementWriter, ObjectWriters objectWriters) {
+        return val == null ? size : name(size, nameLength) + size(val, elementWriter, objectWriters);
+    }
+
+    public static int property(int size, int nameLength, Iterable val, ObjectWriters objectWriters) {
+        return val == null ? size : name(size, nameLength) + size(val, objectWriters);
+    }
+
+    public static int property(int size, int nameLength, Iterable val, ObjectWriter elementWriter, ObjectWriters objectWriters) {
+        return val == null ? size : name(size, nameLength) + size(val, elementWriter, objectWriters);
+    }
+
+    public static int property(int size, int nameLength, Iterator val, ObjectWriters objectWriters) {
+        if (val == null) return size;
+        throw oneShot(val);
+    }
+
+    public static int property(int size, int nameLength, Iterator val, ObjectWriter elementWriter, ObjectWriters objectWriters) {
+        if (val == null) return size;
+        throw oneShot(val);
+    }
+
+    public static int property(int size, int nameLength, Stream val, ObjectWriters objectWriters) {
+        if (val == null) return size;
+        throw oneShot(val);
+    }
+
+    public static int property(int size, int nameLength, Stream val, ObjectWriter elementWriter, ObjectWriters objectWriters) {
+        if (val == null) return size;
+        throw oneShot(val);
+    }
+
+    public static int objectProperty(int size, int nameLength, Object val, ObjectWriters objectWriters) {
+        return val == null ? size : name(size, nameLength) + sizeObject(val, objectWriters);
+    }
+
+    public static int objectProperty(int size, int nameLength, Object val, ObjectWriter writer, ObjectWriters objectWriters) {
+        return val == null ? size : name(size, nameLength) + writer.size(val, objectWriters);
+    }
+
+    /**
+     * Counts by actually writing, for ObjectWriters that do not compute their size.
+     */
+    public static int count(ObjectWriter writer, Object target, ObjectWriters objectWriters) {
+        Counter counter = new Counter();
+        writer.write(new JsonByteWriter(counter, objectWriters), target);
+        return counter.count;
+    }
+
+    static final class Counter implements ByteWriter {
+        byte[] scratch = new byte[64];
+        int count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes) {
+            count += bytes.length;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            count += length;
+        }
+
+        @Override
+        public int reserve(int n) {
+            if (scratch.length < n) scratch = new byte[n];
+            return 0;
+        }
+
+        @Override
+        public byte[] buffer() {
+            return scratch;
+        }
+
+        @Override
+        public void commit(int pos) {
+            count += pos;
+        }
+    }
+}
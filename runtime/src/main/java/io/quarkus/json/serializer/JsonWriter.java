@@ -0,0 +1,123 @@
+package io.quarkus.json.serializer;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public interface JsonWriter {
+    /**
+     * Hint that at least n bytes follow, so the output can grow once instead of on every write.
+     */
+    void reserve(int n);
+    void writeLCurley();
+    void writeRCurley();
+    // pieces of arrays and maps for loops generated per property
+    void writeLBracket();
+    void writeRBracket();
+    void writeComma();
+    void writeColon();
+    void write(short val);
+    void write(int val);
+    void write(long val);
+    void write(boolean val);
+    void write(byte val);
+    void write(float val);
+    void write(double val);
+    void write(char val);
+    void write(Character val);
+    void write(Short val);
+    void write(Integer val);
+    void write(Long val);
+    void write(Boolean val);
+    void write(Byte val);
+    void write(Float val);
+    void write(Double val);
+    void write(String val);
+    void write(BigDecimal val);
+    void writeObject(Object obj);
+    void write(Map val);
+    void write(Map val, ObjectWriter valueWriter);
+    // valueWriter may be null for values that are written by their runtime type
+    void write(Map val, KeyWriter keyWriter, ObjectWriter valueWriter);
+    // map keys, always written as json strings
+    void writeKey(Object key);
+    void writeKey(String key);
+    void writeKey(char key);
+    void writeKey(int key);
+    void writeKey(long key);
+    void writeKey(boolean key);
+    void writeKey(float key);
+    void writeKey(double key);
+    void write(Collection val);
+    void write(Collection val, ObjectWriter elementWriter);
+    // lazy sources are written as arrays while their elements are pulled, a Stream is closed afterwards
+    void write(Iterator val);
+    void write(Iterator val, ObjectWriter elementWriter);
+    void write(Iterable val);
+    void write(Iterable val, ObjectWriter elementWriter);
+    void write(Stream val);
+    void write(Stream val, ObjectWriter elementWriter);
+
+    void writeProperty(String name, char val, boolean comma);
+    void writeProperty(String name, short val, boolean comma);
+    void writeProperty(String name, int val, boolean comma);
+    void writeProperty(String name, long val, boolean comma);
+    void writeProperty(String name, boolean val, boolean comma);
+    void writeProperty(String name, byte val, boolean comma);
+    void writeProperty(String name, float val, boolean comma);
+    void writeProperty(String name, double val, boolean comma);
+    boolean writeProperty(String name, Character val, boolean comma);
+    boolean writeProperty(String name, Short val, boolean comma);
+    boolean writeProperty(String name, Integer val, boolean comma);
+    boolean writeProperty(String name, Long val, boolean comma);
+    boolean writeProperty(String name, Boolean val, boolean comma);
+    boolean writeProperty(String name, Byte val, boolean comma);
+    boolean writeProperty(String name, Float val, boolean comma);
+    boolean writeProperty(String name, Double val, boolean comma);
+    boolean writeProperty(String name, String val, boolean comma);
+    boolean writeProperty(String name, BigDecimal val, boolean comma);
+    boolean writeObjectProperty(String name, Object obj, ObjectWriter writer, boolean comma);
+    boolean writeObjectProperty(String name, Object obj, boolean comma);
+
+
+    boolean writeProperty(String name, Map map, boolean comma);
+    boolean writeProperty(String name, Collection list, boolean comma);
+    boolean writeProperty(String name, Map map, ObjectWriter writer, boolean comma);
+    boolean writeProperty(String name, Collection list, ObjectWriter writer, boolean comma);
+
+    // name is the pre-encoded "name": and may already start with its comma
+    void writeName(byte[] name, boolean comma);
+    void writeProperty(byte[] name, char val, boolean comma);
+    void writeProperty(byte[] name, short val, boolean comma);
+    void writeProperty(byte[] name, int val, boolean comma);
+    void writeProperty(byte[] name, long val, boolean comma);
+    void writeProperty(byte[] name, boolean val, boolean comma);
+    void writeProperty(byte[] name, byte val, boolean comma);
+    void writeProperty(byte[] name, float val, boolean comma);
+    void writeProperty(byte[] name, double val, boolean comma);
+    boolean writeProperty(byte[] name, Character val, boolean comma);
+    boolean writeProperty(byte[] name, Short val, boolean comma);
+    boolean writeProperty(byte[] name, Integer val, boolean comma);
+    boolean writeProperty(byte[] name, Long val, boolean comma);
+    boolean writeProperty(byte[] name, Boolean val, boolean comma);
+    boolean writeProperty(byte[] name, Byte val, boolean comma);
+    boolean writeProperty(byte[] name, Float val, boolean comma);
+    boolean writeProperty(byte[] name, Double val, boolean comma);
+    boolean writeProperty(byte[] name, String val, boolean comma);
+    boolean writeProperty(byte[] name, BigDecimal val, boolean comma);
+    boolean writeObjectProperty(byte[] name, Object obj, ObjectWriter writer, boolean comma);
+    boolean writeObjectProperty(byte[] name, Object obj, boolean comma);
+    boolean writeProperty(byte[] name, Map map, boolean comma);
+    boolean writeProperty(byte[] name, Collection list, boolean comma);
+    boolean writeProperty(byte[] name, Map map, ObjectWriter writer, boolean comma);
+    boolean writeProperty(byte[] name, Collection list, ObjectWriter writer, boolean comma);
+    boolean writeProperty(byte[] name, Map map, KeyWriter keyWriter, ObjectWriter valueWriter, boolean comma);
+    boolean writeProperty(byte[] name, Iterator val, boolean comma);
+    boolean writeProperty(byte[] name, Iterable val, boolean comma);
+    boolean writeProperty(byte[] name, Stream val, boolean comma);
+    boolean writeProperty(byte[] name, Iterator val, ObjectWriter writer, boolean comma);
+    boolean writeProperty(byte[] name, Iterable val, ObjectWriter writer, boolean comma);
+    boolean writeProperty(byte[] name, Stream val, ObjectWriter writer, boolean comma);
+}
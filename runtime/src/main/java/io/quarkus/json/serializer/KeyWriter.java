@@ -0,0 +1,42 @@
+package io.quarkus.json.serializer;
+
+/**
+ * Writes a map key of a known type.  Generated serializers pick the constant matching the declared key type
+ * so no instanceof chain runs per entry.
+ */
+public interface KeyWriter {
+    KeyWriter STRING = (writer, key) -> writer.writeKey((String) key);
+    KeyWriter CHARACTER = (writer, key) -> writer.writeKey(((Character) key).charValue());
+    KeyWriter INTEGER = (writer, key) -> writer.writeKey(((Integer) key).intValue());
+    KeyWriter SHORT = (writer, key) -> writer.writeKey(((Short) key).intValue());
+    KeyWriter BYTE = (writer, key) -> writer.writeKey(((Byte) key).intValue());
+    KeyWriter LONG = (writer, key) -> writer.writeKey(((Long) key).longValue());
+    KeyWriter BOOLEAN = (writer, key) -> writer.writeKey(((Boolean) key).booleanValue());
+    KeyWriter FLOAT = (writer, key) -> writer.writeKey(((Float) key).floatValue());
+    KeyWriter DOUBLE = (writer, key) -> writer.writeKey(((Double) key).doubleValue());
+
+    void write(JsonWriter writer, Object key);
+
+    /**
+     * Exact number of bytes {@link #write(JsonWriter, Object)} produces with a {@link JsonByteWriter}.
+     */
+    default int size(Object key) {
+        return JsonSize.sizeKey(key);
+    }
+
+    /**
+     * Name of the constant for keys of the type, null if keys of the type are written by their runtime type.
+     */
+    static String constant(Class keyType) {
+        if (keyType == String.class) return "STRING";
+        if (keyType == Character.class) return "CHARACTER";
+        if (keyType == Integer.class) return "INTEGER";
+        if (keyType == Short.class) return "SHORT";
+        if (keyType == Byte.class) return "BYTE";
+        if (keyType == Long.class) return "LONG";
+        if (keyType == Boolean.class) return "BOOLEAN";
+        if (keyType == Float.class) return "FLOAT";
+        if (keyType == Double.class) return "DOUBLE";
+        return null;
+    }
+}
@@ -0,0 +1,30 @@
+package io.quarkus.json.serializer;
+
+import java.util.Map;
+
+public class MapWriter implements ObjectWriter {
+    private KeyWriter keyWriter;
+    private ObjectWriter valueWriter;
+
+    public MapWriter(ObjectWriter valueWriter) {
+        this.valueWriter = valueWriter;
+    }
+
+    public MapWriter(KeyWriter keyWriter, ObjectWriter valueWriter) {
+        this.keyWriter = keyWriter;
+        this.valueWriter = valueWriter;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Object target) {
+        Map map = (Map)target;
+        if (keyWriter == null) writer.write(map, valueWriter);
+        else writer.write(map, keyWriter, valueWriter);
+    }
+
+    @Override
+    public int size(Object target, ObjectWriters objectWriters) {
+        if (keyWriter == null) return JsonSize.size((Map) target, valueWriter, objectWriters);
+        return JsonSize.size((Map) target, keyWriter, valueWriter, objectWriters);
+    }
+}
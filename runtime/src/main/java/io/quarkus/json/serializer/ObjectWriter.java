@@ -0,0 +1,14 @@
+package io.quarkus.json.serializer;
+
+public interface ObjectWriter {
+    void write(JsonWriter writer, Object target);
+
+    /**
+     * Exact number of bytes {@link #write(JsonWriter, Object)} produces with a {@link JsonByteWriter} that writes
+     * untyped values through objectWriters.  Generated serializers compute it without writing, the default counts
+     * a throwaway write.
+     */
+    default int size(Object target, ObjectWriters objectWriters) {
+        return JsonSize.count(this, target, objectWriters);
+    }
+}
@@ -0,0 +1,240 @@
+package io.quarkus.json.serializer;
+
+import io.quarkus.json.generator.Generator;
+import io.quarkus.json.generator.Serializer;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writers for values whose type is only known at runtime, e.g. untyped Object, Map and List properties or the
+ * output of GenericParser.  One ClassValue lookup per value picks a dedicated writer for each built-in type
+ * and the generated serializer of any other type, instead of an instanceof chain.
+ *
+ * Each JsonCompiler has its own instance that looks serializers up through the compiler.  A JsonByteWriter writes
+ * untyped values with the instance it was created with, and ObjectWriter sizes are computed with that same instance.
+ */
+public final class ObjectWriters {
+
+    public static final ObjectWriter STRING = new ObjectWriter() {
+        @Override
+        public void write(JsonWriter writer, Object target) {
+            writer.write((String) target);
+        }
+
+        @Override
+        public int size(Object target, ObjectWriters objectWriters) {
+            return JsonSize.size((String) target);
+        }
+    };
+
+    // Integer, Short and Byte
+    public static final ObjectWriter INTEGER = new ObjectWriter() {
+        @Override
+        public void write(JsonWriter writer, Object target) {
+            writer.write(((Number) target).intValue());
+        }
+
+        @Override
+        public int size(Object target, ObjectWriters objectWriters) {
+            return JsonSize.size(((Number) target).intValue());
+        }
+    };
+
+    public static final ObjectWriter LONG = new ObjectWriter() {
+        @Override
+        public void write(JsonWriter writer, Object target) {
+            writer.write(((Long) target).longValue());
+        }
+
+        @Override
+        public int size(Object target, ObjectWriters objectWriters) {
+            return JsonSize.size(((Long) target).longValue());
+        }
+    };
+
+    public static final ObjectWriter FLOAT = new ObjectWriter() {
+        @Override
+        public void write(JsonWriter writer, Object target) {
+            writer.write(((Float) target).floatValue());
+        }
+
+        @Override
+        public int size(Object target, ObjectWriters objectWriters) {
+            return JsonSize.size(((Float) target).floatValue());
+        }
+    };
+
+    public static final ObjectWriter DOUBLE = new ObjectWriter() {
+        @Override
+        public void write(JsonWriter writer, Object target) {
+            writer.write(((Double) target).doubleValue());
+        }
+
+        @Override
+        public int size(Object target, ObjectWriters objectWriters) {
+            return JsonSize.size(((Double) target).doubleValue());
+        }
+    };
+
+    public static final ObjectWriter BOOLEAN = new ObjectWriter() {
+        @Override
+        public void write(JsonWriter writer, Object target) {
+            writer.write(((Boolean) target).booleanValue());
+        }
+
+        @Override
+        public int size(Object target, ObjectWriters objectWriters) {
+            return JsonSize.size(((Boolean) target).booleanValue());
+        }
+    };
+
+    public static final ObjectWriter CHARACTER = new ObjectWriter() {
+        @Override
+        public void write(JsonWriter writer, Object target) {
+            writer.write(((Character) target).charValue());
+        }
+
+        @Override
+        public int size(Object target, ObjectWriters objectWriters) {
+            return JsonSize.size(((Character) target).charValue());
+        }
+    };
+
+    public static final ObjectWriter BIG_DECIMAL = new ObjectWriter() {
+        @Override
+        public void write(JsonWriter writer, Object target) {
+            writer.write((BigDecimal) target);
+        }
+
+        @Override
+        public int size(Object target, ObjectWriters objectWriters) {
+            return JsonSize.size((BigDecimal) target);
+        }
+    };
+
+    public static final ObjectWriter MAP = new ObjectWriter() {
+        @Override
+        public void write(JsonWriter writer, Object target) {
+            writer.write((Map) target);
+        }
+
+        @Override
+        public int size(Object target, ObjectWriters objectWriters) {
+            return JsonSize.size((Map) target, objectWriters);
+        }
+    };
+
+    public static final ObjectWriter COLLECTION = new ObjectWriter() {
+        @Override
+        public void write(JsonWriter writer, Object target) {
+            writer.write((Collection) target);
+        }
+
+        @Override
+        public int size(Object target, ObjectWriters objectWriters) {
+            return JsonSize.size((Collection) target, objectWriters);
+        }
+    };
+
+    public static final ObjectWriter ITERATOR = new ObjectWriter() {
+        @Override
+        public void write(JsonWriter writer, Object target) {
+            writer.write((Iterator) target);
+        }
+
+        @Override
+        public int size(Object target, ObjectWriters objectWriters) {
+            throw JsonSize.oneShot(target);
+        }
+    };
+
+    public static final ObjectWriter STREAM = new ObjectWriter() {
+        @Override
+        public void write(JsonWriter writer, Object target) {
+            writer.write((Stream) target);
+        }
+
+        @Override
+        public int size(Object target, ObjectWriters objectWriters) {
+            throw JsonSize.oneShot(target);
+        }
+    };
+
+    static final ObjectWriter UNSUPPORTED = new ObjectWriter() {
+        @Override
+        public void write(JsonWriter writer, Object target) {
+            throw new RuntimeException("Unable to determine type to write: " + target.getClass().getName());
+        }
+
+        @Override
+        public int size(Object target, ObjectWriters objectWriters) {
+            throw new RuntimeException("Unable to determine type to write: " + target.getClass().getName());
+        }
+    };
+
+    /**
+     * Finds only serializers that were already generated, used by JsonByteWriters created without ObjectWriters.
+     */
+    public static final ObjectWriters PREGENERATED = new ObjectWriters(ObjectWriters::pregenerated);
+
+    final Function<Class, ObjectWriter> serializers;
+    final ClassValue<ObjectWriter> writers = new ClassValue<ObjectWriter>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            ObjectWriter builtin = builtin(type);
+            if (builtin != null) return builtin;
+            return Generator.isGeneratable(type) ? serializers.apply(type) : UNSUPPORTED;
+        }
+    };
+
+    /**
+     * @param serializers the serializer of a user type, e.g. JsonCompiler::writer
+     */
+    public ObjectWriters(Function<Class, ObjectWriter> serializers) {
+        this.serializers = serializers;
+    }
+
+    /**
+     * Writer for values of exactly this runtime type.  Types that are not built in use their serializer.
+     */
+    public ObjectWriter of(Class type) {
+        return writers.get(type);
+    }
+
+    /**
+     * Drops the cached writer, e.g. after another serializer was registered for the type.
+     */
+    public void reset(Class type) {
+        writers.remove(type);
+    }
+
+    static ObjectWriter pregenerated(Class type) {
+        try {
+            Class serializer = Class.forName(Serializer.fqn(type, type), true, type.getClassLoader());
+            return (ObjectWriter) serializer.getField("SERIALIZER").get(null);
+        } catch (ReflectiveOperationException e) {
+            return UNSUPPORTED;
+        }
+    }
+
+    static ObjectWriter builtin(Class type) {
+        if (type == String.class) return STRING;
+        if (type == Integer.class || type == Short.class || type == Byte.class) return INTEGER;
+        if (type == Long.class) return LONG;
+        if (type == Float.class) return FLOAT;
+        if (type == Double.class) return DOUBLE;
+        if (type == Boolean.class) return BOOLEAN;
+        if (type == Character.class) return CHARACTER;
+        if (type == BigDecimal.class) return BIG_DECIMAL;
+        if (Map.class.isAssignableFrom(type)) return MAP;
+        if (Collection.class.isAssignableFrom(type)) return COLLECTION;
+        if (Iterator.class.isAssignableFrom(type)) return ITERATOR;
+        if (Stream.class.isAssignableFrom(type)) return STREAM;
+        return null;
+    }
+}
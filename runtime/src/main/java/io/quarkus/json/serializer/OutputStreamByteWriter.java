@@ -0,0 +1,35 @@
+package io.quarkus.json.serializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Streams json to an OutputStream in chunks.  {@link #flush()} also flushes the stream, which is never closed.
+ */
+public class OutputStreamByteWriter extends ChunkedByteWriter {
+    final OutputStream out;
+
+    public OutputStreamByteWriter(OutputStream out) {
+        this(out, DEFAULT_CHUNK_SIZE);
+    }
+
+    public OutputStreamByteWriter(OutputStream out, int chunkSize) {
+        super(chunkSize);
+        this.out = out;
+    }
+
+    @Override
+    protected void output(byte[] bytes, int offset, int length) throws IOException {
+        out.write(bytes, offset, length);
+    }
+
+    @Override
+    public void flush() {
+        super.flush();
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write json", e);
+        }
+    }
+}
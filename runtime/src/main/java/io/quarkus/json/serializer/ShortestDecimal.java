@@ -0,0 +1,291 @@
+package io.quarkus.json.serializer;
+
+import java.math.BigInteger;
+
+/**
+ * Writes the shortest decimal that rounds back to the same double or float, following Giulietti's
+ * Schubfach algorithm.  Formatting matches {@link Double#toString(double)}, but digits go straight into
+ * a byte array without creating a String.
+ */
+public final class ShortestDecimal {
+
+    /**
+     * Large enough for any double, e.g. -2.2250738585072014E-308
+     */
+    public static final int MAX_CHARS = 24;
+
+    static final int K_MIN = -324;
+    static final int K_MAX = 292;
+    static final long MASK_63 = (1L << 63) - 1;
+    static final long MASK_32 = (1L << 32) - 1;
+
+    static final int D_P = 53;
+    static final int D_BQ_MASK = (1 << 11) - 1;
+    static final long D_T_MASK = (1L << D_P - 1) - 1;
+    static final int D_Q_MIN = -1074;
+    static final long D_C_MIN = 1L << D_P - 1;
+    static final long D_C_TINY = 3;
+
+    static final int F_P = 24;
+    static final int F_BQ_MASK = (1 << 8) - 1;
+    static final int F_T_MASK = (1 << F_P - 1) - 1;
+    static final int F_Q_MIN = -149;
+    static final int F_C_MIN = 1 << F_P - 1;
+    static final int F_C_TINY = 8;
+
+    static final byte[] NAN = {'N', 'a', 'N'};
+    static final byte[] INFINITY = {'I', 'n', 'f', 'i', 'n', 'i', 't', 'y'};
+
+    static final long[] POW10 = new long[19];
+
+    /**
+     * For each k, g1 and g0 such that g1 * 2^63 + g0 = floor(10^-k * 2^(125 - flog2pow10(-k))) + 1
+     */
+    static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) POW10[i] = POW10[i - 1] * 10;
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            int e = -k;
+            int r = flog2pow10(e) - 125;
+            BigInteger pow = BigInteger.TEN.pow(Math.abs(e));
+            BigInteger beta;
+            if (e >= 0) beta = r <= 0 ? pow.shiftLeft(-r) : pow.shiftRight(r);
+            else beta = BigInteger.ONE.shiftLeft(-r).divide(pow);
+            BigInteger g = beta.add(BigInteger.ONE);
+            int i = 2 * (k - K_MIN);
+            G[i] = g.shiftRight(63).longValue();
+            G[i + 1] = g.longValue() & MASK_63;
+        }
+    }
+
+    private ShortestDecimal() {
+    }
+
+    /**
+     * @return position after the last byte written
+     */
+    public static int write(double v, byte[] buf, int pos) {
+        long bits = Double.doubleToRawLongBits(v);
+        long t = bits & D_T_MASK;
+        int bq = (int) (bits >>> D_P - 1) & D_BQ_MASK;
+        if (bq == D_BQ_MASK) return special(t != 0, bits < 0, buf, pos);
+        if (bits < 0) buf[pos++] = '-';
+        if (bq != 0) {
+            int mq = -D_Q_MIN + 1 - bq;
+            long c = D_C_MIN | t;
+            // integers need no search
+            if (0 < mq & mq < D_P) {
+                long f = c >> mq;
+                if (f << mq == c) return toChars(f, 0, buf, pos);
+            }
+            return toDecimal(-mq, c, 0, buf, pos);
+        }
+        if (t != 0) {
+            return t < D_C_TINY ? toDecimal(D_Q_MIN, 10 * t, -1, buf, pos) : toDecimal(D_Q_MIN, t, 0, buf, pos);
+        }
+        return zero(buf, pos);
+    }
+
+    /**
+     * @return position after the last byte written
+     */
+    public static int write(float v, byte[] buf, int pos) {
+        int bits = Float.floatToRawIntBits(v);
+        int t = bits & F_T_MASK;
+        int bq = (bits >>> F_P - 1) & F_BQ_MASK;
+        if (bq == F_BQ_MASK) return special(t != 0, bits < 0, buf, pos);
+        if (bits < 0) buf[pos++] = '-';
+        if (bq != 0) {
+            int mq = -F_Q_MIN + 1 - bq;
+            int c = F_C_MIN | t;
+            if (0 < mq & mq < F_P) {
+                int f = c >> mq;
+                if (f << mq == c) return toChars(f, 0, buf, pos);
+            }
+            return toDecimal(-mq, c, 0, buf, pos);
+        }
+        if (t != 0) {
+            return t < F_C_TINY ? toDecimal(F_Q_MIN, 10 * t, -1, buf, pos) : toDecimal(F_Q_MIN, t, 0, buf, pos);
+        }
+        return zero(buf, pos);
+    }
+
+    private static int toDecimal(int q, long c, int dk, byte[] buf, int pos) {
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != D_C_MIN | q == D_Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+
+        long g1 = G[2 * (k - K_MIN)];
+        long g0 = G[2 * (k - K_MIN) + 1];
+
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            long sp10 = 10 * (s / 10);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) return toChars(upin ? sp10 : tp10, k, buf, pos);
+        }
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) return toChars(uin ? s : t, k + dk, buf, pos);
+        long cmp = vb - (s + t << 1);
+        return toChars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, buf, pos);
+    }
+
+    private static int toDecimal(int q, int c, int dk, byte[] buf, int pos) {
+        int out = c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != F_C_MIN | q == F_Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 33;
+
+        long g = G[2 * (k - K_MIN)] + 1;
+
+        int vb = rop(g, cb << h);
+        int vbl = rop(g, cbl << h);
+        int vbr = rop(g, cbr << h);
+
+        int s = vb >> 2;
+        if (s >= 100) {
+            int sp10 = 10 * (s / 10);
+            int tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) return toChars(upin ? sp10 : tp10, k, buf, pos);
+        }
+        int t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) return toChars(uin ? s : t, k + dk, buf, pos);
+        int cmp = vb - (s + t << 1);
+        return toChars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, buf, pos);
+    }
+
+    private static long rop(long g1, long g0, long cp) {
+        long x1 = Math.multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = Math.multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    private static int rop(long g, long cp) {
+        long x1 = Math.multiplyHigh(g, cp);
+        long vbp = x1 >>> 31;
+        return (int) (vbp | (x1 & MASK_32) + MASK_32 >>> 32);
+    }
+
+    /**
+     * Formats f * 10^e like Double.toString: plain for 10^-3 <= v < 10^7, computerized scientific notation otherwise.
+     */
+    private static int toChars(long f, int e, byte[] buf, int pos) {
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+        int n = 1;
+        while (n < POW10.length && f >= POW10[n]) n++;
+        // exponent of the first digit
+        int exp = n + e - 1;
+        if (exp >= 0 && exp < 7) {
+            if (e >= 0) {
+                pos = fixed(f, n, buf, pos);
+                for (int i = 0; i < e; i++) buf[pos++] = '0';
+                buf[pos++] = '.';
+                buf[pos++] = '0';
+                return pos;
+            }
+            int fraction = -e;
+            pos = fixed(f / POW10[fraction], n - fraction, buf, pos);
+            buf[pos++] = '.';
+            return fixed(f % POW10[fraction], fraction, buf, pos);
+        }
+        if (exp < 0 && exp >= -3) {
+            buf[pos++] = '0';
+            buf[pos++] = '.';
+            for (int i = -1; i > exp; i--) buf[pos++] = '0';
+            return fixed(f, n, buf, pos);
+        }
+        buf[pos++] = (byte) ('0' + f / POW10[n - 1]);
+        buf[pos++] = '.';
+        if (n == 1) buf[pos++] = '0';
+        else pos = fixed(f % POW10[n - 1], n - 1, buf, pos);
+        buf[pos++] = 'E';
+        if (exp < 0) {
+            buf[pos++] = '-';
+            exp = -exp;
+        }
+        if (exp >= 100) buf[pos++] = (byte) ('0' + exp / 100);
+        if (exp >= 10) buf[pos++] = (byte) ('0' + exp / 10 % 10);
+        buf[pos++] = (byte) ('0' + exp % 10);
+        return pos;
+    }
+
+    /**
+     * Writes exactly count digits of v, zero padded.
+     */
+    private static int fixed(long v, int count, byte[] buf, int pos) {
+        int end = pos + count;
+        for (int i = end - 1; i >= pos; i--) {
+            buf[i] = (byte) ('0' + v % 10);
+            v /= 10;
+        }
+        return end;
+    }
+
+    private static int zero(byte[] buf, int pos) {
+        buf[pos++] = '0';
+        buf[pos++] = '.';
+        buf[pos++] = '0';
+        return pos;
+    }
+
+    private static int special(boolean nan, boolean negative, byte[] buf, int pos) {
+        if (nan) {
+            System.arraycopy(NAN, 0, buf, pos, NAN.length);
+            return pos + NAN.length;
+        }
+        if (negative) buf[pos++] = '-';
+        System.arraycopy(INFINITY, 0, buf, pos, INFINITY.length);
+        return pos + INFINITY.length;
+    }
+
+    static int flog10pow2(int q) {
+        return (int) (q * 661_971_961_083L >> 41);
+    }
+
+    static int flog10threeQuartersPow2(int q) {
+        return (int) (q * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    static int flog2pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+}
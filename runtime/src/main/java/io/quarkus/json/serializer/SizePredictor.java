@@ -0,0 +1,48 @@
+package io.quarkus.json.serializer;
+
+/**
+ * Predicts the output size of an {@link ObjectWriter} from the sizes it produced before, so buffers can be
+ * allocated once at the right size instead of growing by doubling and copying.  Like Netty's adaptive
+ * allocator the estimate jumps up at once but only decays slowly.  Updates race without locking, a lost
+ * update only makes the estimate a little less accurate.
+ */
+public final class SizePredictor {
+    static final int MIN_ESTIMATE = 64;
+    // each smaller output moves the estimate 1/4 of the way towards it
+    static final int DECAY_SHIFT = 2;
+
+    static final ClassValue<SizePredictor> PREDICTORS = new ClassValue<SizePredictor>() {
+        @Override
+        protected SizePredictor computeValue(Class<?> type) {
+            return new SizePredictor();
+        }
+    };
+
+    volatile int estimate = ByteArrayByteWriter.DEFAULT_CAPACITY;
+
+    public static SizePredictor of(ObjectWriter writer) {
+        return PREDICTORS.get(writer.getClass());
+    }
+
+    /**
+     * @return the capacity to allocate, the estimate plus some headroom
+     */
+    public int predict() {
+        int e = estimate;
+        int capacity = e + (e >>> 3);
+        return capacity < 0 ? e : capacity;
+    }
+
+    public void record(int size) {
+        int e = estimate;
+        if (size > e) {
+            estimate = size;
+        } else if (size < e) {
+            estimate = Math.max(MIN_ESTIMATE, e - ((e - size) >> DECAY_SHIFT));
+        }
+    }
+
+    public int estimate() {
+        return estimate;
+    }
+}
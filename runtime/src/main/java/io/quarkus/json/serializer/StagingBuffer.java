@@ -0,0 +1,29 @@
+package io.quarkus.json.serializer;
+
+/**
+ * Per-thread array behind the default reserve/commit of {@link ByteWriter}.
+ */
+final class StagingBuffer {
+    static final int INITIAL_SIZE = 256;
+    // larger arrays are dropped on release so an idle thread does not keep them
+    static final int MAX_RETAINED = 8 * 1024;
+
+    static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[INITIAL_SIZE]);
+
+    private StagingBuffer() {
+    }
+
+    static int reserve(int n) {
+        byte[] buf = BUFFER.get();
+        if (buf.length < n) BUFFER.set(new byte[Math.max(n, buf.length * 2)]);
+        return 0;
+    }
+
+    static byte[] buffer() {
+        return BUFFER.get();
+    }
+
+    static void release() {
+        if (BUFFER.get().length > MAX_RETAINED) BUFFER.remove();
+    }
+}
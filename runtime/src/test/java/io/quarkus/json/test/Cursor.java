@@ -0,0 +1,52 @@
+package io.quarkus.json.test;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+public class Cursor {
+    private Stream<String> names;
+    private Iterator<Integer> ids;
+    private Iterable<Single> items;
+    private Stream<Single> results;
+    private Page page;
+
+    public Stream<String> getNames() {
+        return names;
+    }
+
+    public void setNames(Stream<String> names) {
+        this.names = names;
+    }
+
+    public Iterator<Integer> getIds() {
+        return ids;
+    }
+
+    public void setIds(Iterator<Integer> ids) {
+        this.ids = ids;
+    }
+
+    public Iterable<Single> getItems() {
+        return items;
+    }
+
+    public void setItems(Iterable<Single> items) {
+        this.items = items;
+    }
+
+    public Stream<Single> getResults() {
+        return results;
+    }
+
+    public void setResults(Stream<Single> results) {
+        this.results = results;
+    }
+
+    public Page getPage() {
+        return page;
+    }
+
+    public void setPage(Page page) {
+        this.page = page;
+    }
+}
@@ -0,0 +1,53 @@
+package io.quarkus.json.test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class Elements {
+    private List<Integer> counts;
+    private List<Long> totals;
+    private Set<String> tags;
+    private List<Single> singles;
+    private Map<Long, Single> byId;
+
+    public List<Integer> getCounts() {
+        return counts;
+    }
+
+    public void setCounts(List<Integer> counts) {
+        this.counts = counts;
+    }
+
+    public List<Long> getTotals() {
+        return totals;
+    }
+
+    public void setTotals(List<Long> totals) {
+        this.totals = totals;
+    }
+
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(Set<String> tags) {
+        this.tags = tags;
+    }
+
+    public List<Single> getSingles() {
+        return singles;
+    }
+
+    public void setSingles(List<Single> singles) {
+        this.singles = singles;
+    }
+
+    public Map<Long, Single> getById() {
+        return byId;
+    }
+
+    public void setById(Map<Long, Single> byId) {
+        this.byId = byId;
+    }
+}
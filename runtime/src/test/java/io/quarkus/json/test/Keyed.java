@@ -0,0 +1,52 @@
+package io.quarkus.json.test;
+
+import java.util.List;
+import java.util.Map;
+
+public class Keyed {
+    private Map<Integer, String> ids;
+    private Map<Double, Integer> ratios;
+    private Map<String, Single> singles;
+    private Map<Long, List<Single>> groups;
+    private Map untyped;
+
+    public Map<Integer, String> getIds() {
+        return ids;
+    }
+
+    public void setIds(Map<Integer, String> ids) {
+        this.ids = ids;
+    }
+
+    public Map<Double, Integer> getRatios() {
+        return ratios;
+    }
+
+    public void setRatios(Map<Double, Integer> ratios) {
+        this.ratios = ratios;
+    }
+
+    public Map<String, Single> getSingles() {
+        return singles;
+    }
+
+    public void setSingles(Map<String, Single> singles) {
+        this.singles = singles;
+    }
+
+    public Map<Long, List<Single>> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(Map<Long, List<Single>> groups) {
+        this.groups = groups;
+    }
+
+    public Map getUntyped() {
+        return untyped;
+    }
+
+    public void setUntyped(Map untyped) {
+        this.untyped = untyped;
+    }
+}
@@ -4,15 +4,30 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import io.quarkus.json.deserializer.ContextValue;
 import io.quarkus.json.deserializer.GenericParser;
 import io.quarkus.json.deserializer.JsonParser;
+import io.quarkus.json.deserializer.ParallelArrayParser;
+import io.quarkus.json.deserializer.ParallelNdjsonParser;
 import io.quarkus.json.deserializer.ParserContext;
+import io.quarkus.json.deserializer.ParserSubscriber;
+import io.quarkus.json.deserializer.StreamingListParser;
+import io.quarkus.json.deserializer.StreamingMapParser;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class NioExampleParserTest {
 
@@ -334,6 +349,155 @@ public class NioExampleParserTest {
 
     }
 
+    static String kidsArray = "[\n" +
+            "  {\n" +
+            "    \"name\": \"Sammy\",\n" +
+            "    \"age\": 6\n" +
+            "  },\n" +
+            "  {\n" +
+            "    \"name\": \"Suzi\",\n" +
+            "    \"age\": 7\n" +
+            "  }\n" +
+            "]";
+
+    @Test
+    public void testStreamingList() {
+        StreamingListParser streaming = new StreamingListParser(ContextValue.OBJECT_VALUE, NioPersonParser.PARSER.start);
+        for (int i = 1; i <= kidsArray.length(); i++) {
+            List<Person> kids = new LinkedList<>();
+            ParserContext ctx = streaming.parser(kid -> kids.add((Person)kid));
+            for (String str : breakup(kidsArray, i)) {
+                if (ctx.parse(str)) break;
+            }
+            Assertions.assertEquals(2, kids.size());
+            Assertions.assertEquals("Sammy", kids.get(0).getName());
+            Assertions.assertEquals(6, kids.get(0).getAge());
+            Assertions.assertEquals("Suzi", kids.get(1).getName());
+            Assertions.assertEquals(7, kids.get(1).getAge());
+        }
+    }
+
+    @Test
+    public void testStreamingMap() {
+        StreamingMapParser streaming = new StreamingMapParser(ContextValue.STRING_VALUE, ContextValue.OBJECT_VALUE,
+                GenericParser.PARSER.start, GenericParser.PARSER.continueStart);
+        for (int i = 1; i <= generic.length(); i++) {
+            Map<Object, Object> entries = new HashMap<>();
+            ParserContext ctx = streaming.parser(entries::put);
+            for (String str : breakup(generic, i)) {
+                if (ctx.parse(str)) break;
+            }
+            Assertions.assertEquals("Bill", entries.get("name"));
+            Assertions.assertEquals(50L, entries.get("age"));
+            Assertions.assertEquals("John", ((Map)entries.get("dad")).get("name"));
+            Assertions.assertEquals(3L, ((List)entries.get("list2")).get(3));
+        }
+    }
+
+    @Test
+    public void testMultipleDocuments() throws Exception {
+        String ndjson = dadOnly + "\n" + kidsOnly + "\n" + dadOnly + "\n";
+        byte[] bytes = ndjson.getBytes("UTF-8");
+
+        ParserContext ctx = NioPersonParser.PARSER.parser();
+        Assertions.assertTrue(ctx.parse(bytes));
+        Person dad = ctx.popTarget();
+        Assertions.assertEquals("John", dad.getDad().getName());
+        int offset = ctx.consumed();
+        Assertions.assertEquals(dadOnly.length(), offset);
+        ctx.reset();
+        Assertions.assertTrue(ctx.parse(bytes, offset, bytes.length - offset));
+        Person kids = ctx.popTarget();
+        Assertions.assertEquals("Suzi", kids.getKids().get("Suzi").getName());
+
+        for (int i = 1; i <= bytes.length; i++) {
+            List<Person> people = new LinkedList<>();
+            ctx = NioPersonParser.PARSER.parser();
+            for (int start = 0; start < bytes.length; start += i) {
+                ctx.parseDocuments(bytes, start, Math.min(i, bytes.length - start), person -> people.add((Person)person));
+            }
+            Assertions.assertEquals(3, people.size());
+            Assertions.assertEquals("John", people.get(0).getDad().getName());
+            Assertions.assertEquals(7, people.get(1).getKids().get("Suzi").getAge());
+            Assertions.assertTrue(people.get(2).getDad().isMarried());
+        }
+    }
+
+    @Test
+    public void testParallelNdjson() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        int count = 10000;
+        for (int i = 0; i < count; i++) {
+            builder.append("{ \"name\": \"Bill\", \"age\": ").append(i).append(", \"pets\": [ \"itchy\", \"scratchy\"] }\n");
+        }
+        byte[] bytes = builder.toString().getBytes("UTF-8");
+        ParallelNdjsonParser parallel = new ParallelNdjsonParser(NioPersonParser.PARSER, new ForkJoinPool(4)).chunkSize(1000);
+
+        List<Person> ordered = new LinkedList<>();
+        parallel.parseOrdered(bytes, person -> ordered.add((Person)person));
+        Assertions.assertEquals(count, ordered.size());
+        int age = 0;
+        for (Person person : ordered) {
+            Assertions.assertEquals(age++, person.getAge());
+            Assertions.assertTrue(person.getPets().contains("scratchy"));
+        }
+
+        Path file = Files.createTempFile("people", ".ndjson");
+        try {
+            Files.write(file, bytes);
+            AtomicLong sum = new AtomicLong();
+            parallel.parse(file, person -> sum.addAndGet(((Person)person).getAge()));
+            Assertions.assertEquals((long)count * (count - 1) / 2, sum.get());
+        } finally {
+            Files.delete(file);
+        }
+
+        byte[] truncated = (builder.toString() + "{ \"name\": \"Bill\", \"age\"").getBytes("UTF-8");
+        Assertions.assertThrows(RuntimeException.class, () -> parallel.parse(truncated, person -> {}));
+        // the pooled contexts were reset after the failure
+        AtomicLong parsed = new AtomicLong();
+        parallel.parse(bytes, person -> parsed.incrementAndGet());
+        Assertions.assertEquals(count, parsed.get());
+    }
+
+    @Test
+    public void testParallelArray() throws Exception {
+        StringBuilder builder = new StringBuilder("[");
+        int count = 10000;
+        for (int i = 0; i < count; i++) {
+            if (i > 0) builder.append(",\n");
+            builder.append("{ \"name\": \"Bill\", \"age\": ").append(i).append(", \"pets\": [ \"itchy\", \"scratchy\"] }");
+        }
+        builder.append("]");
+        List<Person> people = new ParallelArrayParser(NioPersonParser.PARSER, new ForkJoinPool(4)).parse(builder.toString().getBytes("UTF-8"));
+        Assertions.assertEquals(count, people.size());
+        for (int i = 0; i < count; i++) {
+            Assertions.assertEquals(i, people.get(i).getAge());
+            Assertions.assertTrue(people.get(i).getPets().contains("itchy"));
+        }
+
+        List list = new ParallelArrayParser(GenericParser.PARSER).parse(genericList.getBytes("UTF-8"));
+        Assertions.assertEquals("one", list.get(0));
+        Assertions.assertEquals(2L, list.get(1));
+        Assertions.assertEquals(3.0F, list.get(2));
+        Assertions.assertEquals(true, list.get(3));
+        Assertions.assertEquals("John", ((Map)list.get(4)).get("name"));
+        Assertions.assertTrue(new ParallelArrayParser(GenericParser.PARSER).parse(" [ ] ".getBytes("UTF-8")).isEmpty());
+    }
+
+    @Test
+    public void testSubscriber() throws Exception {
+        SubmissionPublisher<ByteBuffer> publisher = new SubmissionPublisher<>();
+        CompletionStage<Person> result = ParserSubscriber.parse(NioPersonParser.PARSER, publisher);
+        for (String str : breakup(json, 13)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(str.length());
+            buffer.put(str.getBytes("UTF-8")).flip();
+            publisher.submit(buffer);
+        }
+        publisher.close();
+        validatePerson(result.toCompletableFuture().get(10, TimeUnit.SECONDS));
+    }
+
     @Test
     public void testVsJackson() throws Exception {
         ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
@@ -1,15 +1,31 @@
 package io.quarkus.json.test;
 
 import io.quarkus.gizmo.TestClassLoader;
+import io.quarkus.json.JsonCompiler;
 import io.quarkus.json.deserializer.JsonParser;
 import io.quarkus.json.deserializer.ParserContext;
 import io.quarkus.json.generator.Serializer;
 import io.quarkus.json.generator.Deserializer;
+import io.quarkus.json.generator.GeneratorCache;
+import io.quarkus.json.generator.MemoryClassOutput;
 import io.quarkus.json.serializer.ByteArrayByteWriter;
 import io.quarkus.json.serializer.JsonByteWriter;
 import io.quarkus.json.serializer.ObjectWriter;
+import io.quarkus.json.serializer.ObjectWriters;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class NioGeneratorTest {
 
@@ -166,6 +182,67 @@ public class NioGeneratorTest {
 
     }
 
+    @Test
+    public void testJsonCompiler() throws Exception {
+        // concurrent first requests must all see the one parser that was generated
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<JsonParser>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(executor.submit(() -> JsonCompiler.COMPILER.parser(Person2.class)));
+        }
+        JsonParser parser = futures.get(0).get();
+        for (Future<JsonParser> future : futures) Assertions.assertSame(parser, future.get());
+        executor.shutdown();
+        // type arguments have no generated class of their own
+        Type siblings = Person2.class.getMethod("getSiblings").getGenericReturnType();
+        Assertions.assertThrows(RuntimeException.class, () -> JsonCompiler.COMPILER.parser(siblings));
+
+        ParserContext ctx = parser.parser();
+        Assertions.assertTrue(ctx.parse(json));
+        Person2 person = ctx.target();
+        validatePerson(person);
+
+        ByteArrayByteWriter writer = new ByteArrayByteWriter();
+        JsonCompiler.COMPILER.writer(Person2.class).write(new JsonByteWriter(writer), person);
+        ctx = JsonCompiler.COMPILER.parser(Person2.class).parser();
+        Assertions.assertTrue(ctx.parse(writer.getBytes()));
+        validatePerson(ctx.target());
+    }
+
+    @Test
+    public void testExactSize() throws Exception {
+        ParserContext ctx = JsonCompiler.COMPILER.parser(Person2.class).parser();
+        Assertions.assertTrue(ctx.parse(json));
+        Person2 person = ctx.target();
+        person.setName("tab\t quote\" \u00e9\u20ac \ud83d\ude00 lone \ud83d");
+        person.setMoney(-1.0E-5f);
+        person.setGenericBag(Arrays.asList(new BigDecimal("-123.4500"), new BigDecimal("1E+12"), 'x', 3L, 2.5d, true));
+
+        // computed by the generated method, not by counting a write
+        Assertions.assertNotNull(JsonCompiler.COMPILER.writer(Person2.class).getClass().getDeclaredMethod("size", Object.class, ObjectWriters.class));
+        byte[] bytes = JsonCompiler.COMPILER.toBytes(person);
+        Assertions.assertEquals(bytes.length, JsonCompiler.COMPILER.size(person));
+        Assertions.assertArrayEquals(bytes, JsonCompiler.COMPILER.toExactBytes(person));
+    }
+
+    @Test
+    public void testCache(@TempDir Path dir) throws Exception {
+        MemoryClassOutput first = new MemoryClassOutput();
+        GeneratorCache cache = new GeneratorCache(dir);
+        cache.generate(first, Collections.singletonList(Person2.class));
+        Assertions.assertEquals(1, cache.getMisses());
+
+        MemoryClassOutput second = new MemoryClassOutput();
+        cache = new GeneratorCache(dir);
+        cache.generate(second, Collections.singletonList(Person2.class));
+        Assertions.assertEquals(0, cache.getMisses());
+        Assertions.assertEquals(1, cache.getHits());
+        Assertions.assertEquals(first.getBytecode().keySet(), second.getBytecode().keySet());
+        Assertions.assertArrayEquals(first.getBytecode().get(Deserializer.fqn(Person2.class, Person2.class).replace('.', '/')),
+                second.getBytecode().get(Deserializer.fqn(Person2.class, Person2.class).replace('.', '/')));
+        Assertions.assertNotEquals(GeneratorCache.key(Person2.class), GeneratorCache.key(Person.class));
+    }
+
     public void validatePerson(Person2 person) {
         Assertions.assertEquals("Bill", person.getName());
         Assertions.assertEquals(50, person.getAge());
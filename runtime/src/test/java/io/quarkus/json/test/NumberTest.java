@@ -0,0 +1,102 @@
+package io.quarkus.json.test;
+
+import io.quarkus.json.serializer.ByteArrayByteWriter;
+import io.quarkus.json.serializer.JsonByteWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.function.Consumer;
+
+public class NumberTest {
+    @Test
+    public void testNumberToString() {
+
+        int x = Integer.MAX_VALUE;
+
+        final int BILLION = 1000000000;
+
+        Double.toString(34.34D);
+
+
+        int places = 1;
+        int n = x / 10;
+        for (; n != 0; n /= 10) places *= 10;
+
+        StringBuilder builder = new StringBuilder();
+        if (x < 0) {
+            builder.append('-');
+            for (int place = places; place >=1; place /= 10) {
+                int i = x / place;
+                builder.append((char)('0' - i));
+                x -= i * place;
+            }
+        } else {
+            for (int place = places; place >=1; place /= 10) {
+                int i = x / place;
+                builder.append((char)('0' + i));
+                x -= i * place;
+            }
+
+        }
+
+        System.out.println(builder.toString());
+    }
+
+    @Test
+    public void testIntegerWriter() {
+        long[] longs = {0, 1, -1, 9, 10, -10, 99, 100, -100, 12345, -987654321, Integer.MAX_VALUE, Integer.MIN_VALUE,
+                Integer.MAX_VALUE + 1L, Integer.MIN_VALUE - 1L, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long val : longs) {
+            Assertions.assertEquals(Long.toString(val), write(w -> w.write(val)));
+            if (val == (int) val) Assertions.assertEquals(Long.toString(val), write(w -> w.write((int) val)));
+        }
+        Assertions.assertEquals("-32768", write(w -> w.write(Short.MIN_VALUE)));
+        Assertions.assertEquals("-128", write(w -> w.write(Byte.MIN_VALUE)));
+        Assertions.assertEquals("-42", write(w -> w.write(Integer.valueOf(-42))));
+    }
+
+    @Test
+    public void testFloatingPointWriter() {
+        double[] doubles = {0.0, -0.0, 1.0, -1.5, 0.1, 0.3, 2.0 / 3, 100, 1e7, 9999999.0, 0.001, 9.9E-4, 123.456,
+                Math.PI, Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE, 1.0E-5, 12345678.9};
+        for (double val : doubles) {
+            Assertions.assertEquals(Double.toString(val), write(w -> w.write(val)));
+        }
+        // shortest digits that round trip, Double.toString would print 9.999999999999999E22
+        Assertions.assertEquals("1.0E23", write(w -> w.write(1e23)));
+        float[] floats = {0.0f, 1.0f, 0.1f, -123.456f, Float.MAX_VALUE, Float.MIN_VALUE, 1e7f, 0.001f};
+        for (float val : floats) {
+            Assertions.assertEquals(Float.toString(val), write(w -> w.write(val)));
+        }
+        Random random = new Random(7);
+        for (int i = 0; i < 100000; i++) {
+            double d = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(d)) continue;
+            String s = write(w -> w.write(d));
+            Assertions.assertEquals(d, Double.parseDouble(s), s);
+            Assertions.assertTrue(s.length() <= Double.toString(d).length(), s);
+            float f = Float.intBitsToFloat(random.nextInt());
+            if (Float.isNaN(f)) continue;
+            Assertions.assertEquals(f, Float.parseFloat(write(w -> w.write(f))));
+        }
+    }
+
+    @Test
+    public void testBigDecimalWriter() {
+        String[] decimals = {"0", "1", "-1", "123.45", "-0.001", "0.000001", "0.0000001", "1E+3", "-1.5E+10",
+                "12345678901234567890.123456789", "-9223372036854775808", "1.00", "5E-20"};
+        for (String val : decimals) {
+            BigDecimal decimal = new BigDecimal(val);
+            Assertions.assertEquals(decimal.toString(), write(w -> w.write(decimal)));
+        }
+    }
+
+    static String write(Consumer<JsonByteWriter> writer) {
+        ByteArrayByteWriter bytes = new ByteArrayByteWriter();
+        writer.accept(new JsonByteWriter(bytes));
+        return new String(bytes.getBytes(), JsonByteWriter.UTF8);
+    }
+}
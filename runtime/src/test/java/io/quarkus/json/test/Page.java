@@ -0,0 +1,28 @@
+package io.quarkus.json.test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public class Page implements Iterable<Single> {
+    private List<Single> items = new ArrayList<>();
+    private int total;
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public Page add(Single item) {
+        items.add(item);
+        return this;
+    }
+
+    @Override
+    public Iterator<Single> iterator() {
+        return items.iterator();
+    }
+}
@@ -0,0 +1,52 @@
+package io.quarkus.json.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.json.serializer.ByteArrayByteWriter;
+import io.quarkus.json.serializer.JsonByteWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class StringTest {
+
+    static String write(String val) {
+        ByteArrayByteWriter bytes = new ByteArrayByteWriter();
+        new JsonByteWriter(bytes).write(val);
+        return new String(bytes.getBytes(), JsonByteWriter.UTF8);
+    }
+
+    @Test
+    public void testEscapes() {
+        Assertions.assertEquals("\"plain\"", write("plain"));
+        Assertions.assertEquals("\"\"", write(""));
+        Assertions.assertEquals("\"a\\\"b\\\\c\\n\\r\\t\\b\\f\"", write("a\"b\\c\n\r\t\b\f"));
+        Assertions.assertEquals("\"\\u0000\\u001f\"", write("\u0000\u001f"));
+        Assertions.assertEquals("\"caf\u00e9 \u20ac \ud83d\ude00\"", write("caf\u00e9 \u20ac \ud83d\ude00"));
+        // lone surrogates are escaped instead of being replaced
+        Assertions.assertEquals("\"\\ud83d!\"", write("\ud83d!"));
+
+        ByteArrayByteWriter bytes = new ByteArrayByteWriter();
+        new JsonByteWriter(bytes).write('"');
+        Assertions.assertEquals("\"\\\"\"", new String(bytes.getBytes(), JsonByteWriter.UTF8));
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Random random = new Random(3);
+        char[] alphabet = "abc \"\\\n\u0001\u00e9\u20ac\ud83d\ude00".toCharArray();
+        for (int i = 0; i < 200; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(2000);
+            for (int j = 0; j < length; j++) {
+                int index = random.nextInt(alphabet.length - 1);
+                // keep surrogate pairs together
+                if (alphabet[index] == '\ud83d') builder.append("\ud83d\ude00");
+                else if (alphabet[index] != '\ude00') builder.append(alphabet[index]);
+            }
+            String val = builder.toString();
+            Assertions.assertEquals(val, mapper.readValue(write(val), String.class));
+        }
+    }
+}
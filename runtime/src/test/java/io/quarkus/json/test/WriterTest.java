@@ -0,0 +1,446 @@
+package io.quarkus.json.test;
+
+import io.quarkus.json.JsonCompiler;
+import io.quarkus.json.serializer.ByteArrayByteWriter;
+import io.quarkus.json.serializer.ByteArrayByteWriterPool;
+import io.quarkus.json.serializer.ByteBufByteWriter;
+import io.quarkus.json.serializer.ByteBufferByteWriter;
+import io.quarkus.json.serializer.ByteWriter;
+import io.quarkus.json.serializer.ChannelByteWriter;
+import io.quarkus.json.serializer.JsonByteWriter;
+import io.quarkus.json.serializer.JsonPublisher;
+import io.quarkus.json.serializer.JsonWriter;
+import io.quarkus.json.serializer.ObjectWriter;
+import io.quarkus.json.serializer.OutputStreamByteWriter;
+import io.quarkus.json.serializer.SizePredictor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+public class WriterTest {
+
+    @Test
+    public void testByteArrayWriter() {
+        ByteArrayByteWriter writer = new ByteArrayByteWriter(4);
+        byte[] chunk = "0123456789".getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < 100; i++) {
+            writer.write(chunk);
+            writer.write('-');
+            writer.write(chunk, 2, 3);
+        }
+        Assertions.assertEquals(1400, writer.size());
+        Assertions.assertTrue(writer.capacity() >= 1400);
+        Assertions.assertEquals("0123456789-234", new String(writer.buffer(), 0, 14, StandardCharsets.UTF_8));
+        Assertions.assertEquals(writer.size(), writer.getBytes().length);
+
+        writer.reset();
+        Assertions.assertEquals(0, writer.size());
+        writer.write('x');
+        Assertions.assertEquals('x', writer.buffer()[0]);
+    }
+
+    @Test
+    public void testPool() {
+        ByteArrayByteWriterPool pool = new ByteArrayByteWriterPool(1, 1024);
+        ByteArrayByteWriter first = pool.acquire();
+        first.write('a');
+        pool.release(first);
+        ByteArrayByteWriter second = pool.acquire();
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(0, second.size());
+
+        // only one idle writer is kept
+        ByteArrayByteWriter third = pool.acquire();
+        pool.release(second);
+        pool.release(third);
+        Assertions.assertSame(second, pool.acquire());
+        Assertions.assertNotSame(third, pool.acquire());
+
+        // writers that grew past the cap are dropped
+        ByteArrayByteWriter huge = pool.acquire();
+        huge.write(new byte[4096]);
+        pool.release(huge);
+        Assertions.assertNotSame(huge, pool.acquire());
+    }
+
+    static void writeSample(ByteWriter writer) {
+        JsonByteWriter json = new JsonByteWriter(writer);
+        for (int i = 0; i < 50; i++) {
+            json.write("some text that will not fit in one chunk " + i);
+            json.write(i * 1000L);
+        }
+    }
+
+    static byte[] sample() {
+        ByteArrayByteWriter writer = new ByteArrayByteWriter();
+        writeSample(writer);
+        return writer.getBytes();
+    }
+
+    @Test
+    public void testByteBufferWriter() {
+        for (ByteBufferByteWriter writer : new ByteBufferByteWriter[]{new ByteBufferByteWriter(64), ByteBufferByteWriter.direct(64)}) {
+            writeSample(writer);
+            byte[] expected = sample();
+            Assertions.assertEquals(expected.length, writer.size());
+            ByteBuffer[] buffers = writer.buffers();
+            Assertions.assertTrue(buffers.length > 1);
+            ByteBuffer all = ByteBuffer.allocate(expected.length);
+            for (ByteBuffer buffer : buffers) all.put(buffer);
+            Assertions.assertArrayEquals(expected, all.array());
+        }
+        Assertions.assertFalse(new ByteBufferByteWriter().buffers()[0].isDirect());
+        Assertions.assertTrue(ByteBufferByteWriter.direct(64).buffers()[0].isDirect());
+    }
+
+    @Test
+    public void testByteBufWriter() {
+        ByteBufByteWriter writer = new ByteBufByteWriter();
+        try {
+            writeSample(writer);
+            byte[] expected = sample();
+            byte[] actual = new byte[writer.byteBuf().readableBytes()];
+            writer.byteBuf().readBytes(actual);
+            Assertions.assertArrayEquals(expected, actual);
+        } finally {
+            writer.byteBuf().release();
+        }
+    }
+
+    @Test
+    public void testReserve() throws Exception {
+        Simple simple = new Simple();
+        simple.setName(-1);
+        simple.setAge(Integer.MIN_VALUE);
+        simple.setQqq(42);
+        ObjectWriter objectWriter = JsonCompiler.COMPILER.writer(Simple.class);
+        String expected = "{\"age\":-2147483648,\"married\":0,\"money\":0,\"name\":-1,\"q\":0,\"qq\":0,\"qqq\":42}";
+
+        ByteArrayByteWriter bytes = new ByteArrayByteWriter(1);
+        objectWriter.write(new JsonByteWriter(bytes), simple);
+        Assertions.assertEquals(expected, new String(bytes.getBytes(), StandardCharsets.UTF_8));
+
+        // heap chunks are reserved in place, direct chunks through the staging array
+        for (ByteBufferByteWriter writer : new ByteBufferByteWriter[]{new ByteBufferByteWriter(16), ByteBufferByteWriter.direct(16)}) {
+            objectWriter.write(new JsonByteWriter(writer), simple);
+            ByteBuffer all = ByteBuffer.allocate(writer.size());
+            for (ByteBuffer buffer : writer.buffers()) all.put(buffer);
+            Assertions.assertEquals(expected, new String(all.array(), StandardCharsets.UTF_8));
+        }
+
+        // a ByteWriter with only the write methods stages reserved bytes through the defaults
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteWriter plain = new ByteWriter() {
+            @Override
+            public void write(int b) {
+                out.write(b);
+            }
+
+            @Override
+            public void write(byte[] bytes) {
+                out.write(bytes, 0, bytes.length);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                out.write(bytes, offset, length);
+            }
+        };
+        objectWriter.write(new JsonByteWriter(plain), simple);
+        Assertions.assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testDevirtualized() throws Exception {
+        Simple simple = new Simple();
+        simple.setName(7);
+        simple.setQqq(-42);
+        ObjectWriter objectWriter = JsonCompiler.COMPILER.writer(Simple.class);
+        Assertions.assertNotNull(objectWriter.getClass().getMethod("write", JsonByteWriter.class, Object.class));
+
+        ByteArrayByteWriter direct = new ByteArrayByteWriter();
+        objectWriter.write(new JsonByteWriter(direct), simple);
+
+        // any other JsonWriter goes through the interface calls
+        ByteArrayByteWriter fallback = new ByteArrayByteWriter();
+        JsonByteWriter delegate = new JsonByteWriter(fallback);
+        JsonWriter proxy = (JsonWriter) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{JsonWriter.class},
+                (p, method, args) -> method.invoke(delegate, args));
+        objectWriter.write(proxy, simple);
+        Assertions.assertEquals(new String(direct.getBytes(), StandardCharsets.UTF_8), new String(fallback.getBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSizePredictor() {
+        SizePredictor predictor = new SizePredictor();
+        predictor.record(40000);
+        Assertions.assertEquals(40000, predictor.estimate());
+        Assertions.assertTrue(predictor.predict() >= 40000);
+
+        // shrinks slowly towards smaller outputs
+        predictor.record(8000);
+        Assertions.assertTrue(predictor.estimate() < 40000 && predictor.estimate() > 8000);
+        for (int i = 0; i < 50; i++) predictor.record(8000);
+        Assertions.assertTrue(predictor.estimate() - 8000 < 100);
+
+        Simple simple = new Simple();
+        simple.setQqq(42);
+        byte[] json = JsonCompiler.COMPILER.toBytes(simple);
+        Assertions.assertEquals("{\"age\":0,\"married\":0,\"money\":0,\"name\":0,\"q\":0,\"qq\":0,\"qqq\":42}", new String(json, StandardCharsets.UTF_8));
+        int estimate = SizePredictor.of(JsonCompiler.COMPILER.writer(Simple.class)).estimate();
+        Assertions.assertTrue(estimate >= json.length && estimate < 256);
+    }
+
+    @Test
+    public void testStreamingWriters() throws Exception {
+        byte[] expected = sample();
+        int[] largest = {0};
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                largest[0] = Math.max(largest[0], len);
+                super.write(b, off, len);
+            }
+        };
+        OutputStreamByteWriter stream = new OutputStreamByteWriter(out, 64);
+        writeSample(stream);
+        stream.flush();
+        Assertions.assertArrayEquals(expected, out.toByteArray());
+        // nothing larger than the chunk is buffered
+        Assertions.assertTrue(largest[0] > 0 && largest[0] <= 64);
+
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        ChannelByteWriter channel = new ChannelByteWriter(Channels.newChannel(target), 16);
+        writeSample(channel);
+        channel.flush();
+        Assertions.assertArrayEquals(expected, target.toByteArray());
+
+        Simple simple = new Simple();
+        simple.setQqq(42);
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        JsonCompiler.COMPILER.write(simple, json);
+        Assertions.assertArrayEquals(JsonCompiler.COMPILER.toBytes(simple), json.toByteArray());
+    }
+
+    @Test
+    public void testPublisher() throws Exception {
+        Simple simple = new Simple();
+        simple.setQqq(42);
+        ObjectWriter objectWriter = JsonCompiler.COMPILER.writer(Simple.class);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        JsonPublisher publisher = new JsonPublisher(objectWriter, simple, executor, 16);
+
+        BlockingQueue<ByteBuffer> chunks = new LinkedBlockingQueue<>();
+        CountDownLatch complete = new CountDownLatch(1);
+        Flow.Subscription[] subscription = new Flow.Subscription[1];
+        publisher.subscribe(new Flow.Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription[0] = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                chunks.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throwable.printStackTrace();
+            }
+
+            @Override
+            public void onComplete() {
+                complete.countDown();
+            }
+        });
+
+        // nothing beyond the requested chunk is produced
+        ByteBuffer first = chunks.poll(5, TimeUnit.SECONDS);
+        Assertions.assertNotNull(first);
+        Assertions.assertNull(chunks.poll(100, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(1, complete.getCount());
+
+        subscription[0].request(Long.MAX_VALUE);
+        Assertions.assertTrue(complete.await(5, TimeUnit.SECONDS));
+        // chunks are handed over, not reused, so the first one still holds its bytes
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        json.write(first.array(), 0, first.remaining());
+        for (ByteBuffer chunk : chunks) {
+            Assertions.assertTrue(chunk.remaining() <= 16);
+            json.write(chunk.array(), 0, chunk.remaining());
+        }
+        Assertions.assertArrayEquals(JsonCompiler.COMPILER.toBytes(simple), json.toByteArray());
+        executor.shutdown();
+    }
+
+    @Test
+    public void testPublisherErrors() throws Exception {
+        Simple simple = new Simple();
+        ObjectWriter objectWriter = JsonCompiler.COMPILER.writer(Simple.class);
+        BlockingQueue<Throwable> errors = new LinkedBlockingQueue<>();
+        Flow.Subscriber<ByteBuffer> subscriber = new Flow.Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                s.request(0);
+                s.request(-1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                errors.add(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        };
+
+        // two bad requests terminate the subscriber once, from the producer thread
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        new JsonPublisher(objectWriter, simple, executor).subscribe(subscriber);
+        Assertions.assertTrue(errors.poll(5, TimeUnit.SECONDS) instanceof IllegalArgumentException);
+        Assertions.assertNull(errors.poll(100, TimeUnit.MILLISECONDS));
+        executor.shutdown();
+
+        new JsonPublisher(objectWriter, simple, task -> {
+            throw new RejectedExecutionException();
+        }, 16).subscribe(subscriber);
+        Assertions.assertTrue(errors.poll(5, TimeUnit.SECONDS) instanceof RejectedExecutionException);
+    }
+
+    @Test
+    public void testLazySources() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        Cursor cursor = new Cursor();
+        cursor.setNames(Stream.of("a", "b").onClose(() -> closed.set(true)));
+        cursor.setIds(Arrays.asList(1, 2, 3).iterator());
+        cursor.setItems(Arrays.asList(new Single().setName(1), new Single().setName(2)));
+        cursor.setResults(Stream.empty());
+        // an Iterable user type keeps its properties
+        Page page = new Page().add(new Single().setName(3));
+        page.setTotal(1);
+        cursor.setPage(page);
+
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        JsonCompiler.COMPILER.write(cursor, json);
+        Assertions.assertEquals("{\"ids\":[1,2,3],\"items\":[{\"name\":1},{\"name\":2}],\"names\":[\"a\",\"b\"],\"page\":{\"total\":1},\"results\":[]}",
+                new String(json.toByteArray(), StandardCharsets.UTF_8));
+        Assertions.assertTrue(closed.get());
+
+        // sizing would consume a one-shot source
+        cursor.setIds(Collections.emptyIterator());
+        Assertions.assertThrows(RuntimeException.class, () -> JsonCompiler.COMPILER.size(cursor));
+        cursor.setIds(null);
+        cursor.setNames(null);
+        cursor.setResults(null);
+        Assertions.assertEquals(JsonCompiler.COMPILER.toBytes(cursor).length, JsonCompiler.COMPILER.size(cursor));
+    }
+
+    @Test
+    public void testMapKeys() throws Exception {
+        Keyed keyed = new Keyed();
+        Map<Integer, String> ids = new LinkedHashMap<>();
+        ids.put(-7, "a");
+        ids.put(Integer.MAX_VALUE, "b");
+        keyed.setIds(ids);
+        keyed.setRatios(Collections.singletonMap(0.5d, 3));
+        keyed.setSingles(Collections.singletonMap("tab\t\u20ac", new Single().setName(1)));
+        keyed.setGroups(Collections.singletonMap(Long.MIN_VALUE, Arrays.asList(new Single().setName(2))));
+        // recurring keys come from the encoded key cache
+        Map<Object, Object> untyped = new LinkedHashMap<>();
+        for (int i = 0; i < 3; i++) untyped.put("k" + i, Collections.singletonMap("same", i));
+        untyped.put(1.5f, 'c');
+        keyed.setUntyped(untyped);
+
+        byte[] json = JsonCompiler.COMPILER.toBytes(keyed);
+        Assertions.assertEquals("{\"groups\":{\"-9223372036854775808\":[{\"name\":2}]},\"ids\":{\"-7\":\"a\",\"2147483647\":\"b\"},"
+                        + "\"ratios\":{\"0.5\":3},\"singles\":{\"tab\\t\u20ac\":{\"name\":1}},"
+                        + "\"untyped\":{\"k0\":{\"same\":0},\"k1\":{\"same\":1},\"k2\":{\"same\":2},\"1.5\":\"c\"}}",
+                new String(json, StandardCharsets.UTF_8));
+        Assertions.assertEquals(json.length, JsonCompiler.COMPILER.size(keyed));
+    }
+
+    @Test
+    public void testWriteObject() throws Exception {
+        // user objects inside untyped values are found through their generated serializer
+        Map<String, Object> untyped = new LinkedHashMap<>();
+        untyped.put("single", new Single().setName(3));
+        untyped.put("list", Arrays.asList(1, 2L, 0.5f, new Single().setName(4), new BigDecimal("1.50")));
+        Keyed keyed = new Keyed();
+        keyed.setUntyped(untyped);
+
+        byte[] json = JsonCompiler.COMPILER.toBytes(keyed);
+        Assertions.assertEquals("{\"untyped\":{\"single\":{\"name\":3},\"list\":[1,2,0.5,{\"name\":4},1.50]}}",
+                new String(json, StandardCharsets.UTF_8));
+        Assertions.assertEquals(json.length, JsonCompiler.COMPILER.size(keyed));
+
+        // a writer registered with another compiler is only used by that compiler
+        JsonCompiler compiler = new JsonCompiler();
+        compiler.register(Single.class, null, (writer, target) -> writer.write("single"));
+        byte[] registered = compiler.toBytes(keyed);
+        Assertions.assertEquals("{\"untyped\":{\"single\":\"single\",\"list\":[1,2,0.5,\"single\",1.50]}}",
+                new String(registered, StandardCharsets.UTF_8));
+        // sizes are computed with the same writers
+        Assertions.assertEquals(registered.length, compiler.size(keyed));
+        Assertions.assertArrayEquals(registered, compiler.toExactBytes(keyed));
+        Assertions.assertArrayEquals(json, JsonCompiler.COMPILER.toBytes(keyed));
+
+        untyped.put("thread", Thread.currentThread());
+        Assertions.assertThrows(RuntimeException.class, () -> JsonCompiler.COMPILER.toBytes(keyed));
+    }
+
+    @Test
+    public void testElementLoops() throws Exception {
+        Elements elements = new Elements();
+        elements.setCounts(Arrays.asList(1, -2, Integer.MIN_VALUE));
+        elements.setTotals(new LinkedList<>(Arrays.asList(5L, Long.MAX_VALUE)));
+        elements.setTags(new LinkedHashSet<>(Arrays.asList("a", "b\"")));
+        elements.setSingles(Arrays.asList(new Single().setName(1), new Single().setName(2)));
+        Map<Long, Single> byId = new LinkedHashMap<>();
+        byId.put(3L, new Single().setName(3));
+        byId.put(-4L, new Single().setName(4));
+        elements.setById(byId);
+
+        // RandomAccess lists are read by index, the LinkedList and the Set through their iterator
+        byte[] json = JsonCompiler.COMPILER.toBytes(elements);
+        Assertions.assertEquals("{\"byId\":{\"3\":{\"name\":3},\"-4\":{\"name\":4}},\"counts\":[1,-2,-2147483648],"
+                        + "\"singles\":[{\"name\":1},{\"name\":2}],\"tags\":[\"a\",\"b\\\"\"],\"totals\":[5,9223372036854775807]}",
+                new String(json, StandardCharsets.UTF_8));
+        Assertions.assertEquals(json.length, JsonCompiler.COMPILER.size(elements));
+
+        Elements empty = new Elements();
+        empty.setCounts(Collections.emptyList());
+        empty.setTags(Collections.emptySet());
+        empty.setById(Collections.emptyMap());
+        Assertions.assertEquals("{\"byId\":{},\"counts\":[],\"tags\":[]}",
+                new String(JsonCompiler.COMPILER.toBytes(empty), StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +0,0 @@
-package io.quarkus.json.serializer;
-
-public interface ObjectWriter {
-    void write(JsonWriter writer, Object target);
-}